@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathExpressionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xml.sax.SAXException;
+import eu.europa.ted.eforms.NoticeDocument;
+
+/**
+ * Parsing of a notice, and reading of the values used to select the SDK resources for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoticeDocumentBenchmark {
+  private String noticeXml;
+  private NoticeDocument notice;
+
+  @Setup
+  public void setUp() throws IOException, ParserConfigurationException, SAXException {
+    try (InputStream input =
+        NoticeDocumentBenchmark.class.getResourceAsStream("/notices/cn_16.xml")) {
+      noticeXml = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    notice = new NoticeDocument(noticeXml);
+  }
+
+  @Benchmark
+  public NoticeDocument parse() throws ParserConfigurationException, SAXException, IOException {
+    return new NoticeDocument(noticeXml);
+  }
+
+  @Benchmark
+  public void getters(final Blackhole blackhole) {
+    blackhole.consume(notice.getNoticeSubType());
+    blackhole.consume(notice.getEformsSdkVersion());
+    blackhole.consume(notice.getPrimaryLanguage());
+  }
+
+  @Benchmark
+  public List<String> getOtherLanguages() throws XPathExpressionException {
+    return notice.getOtherLanguages();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import eu.europa.ted.eforms.sdk.SdkVersion;
+import eu.europa.ted.eforms.sdk.component.SdkComponentDescriptor;
+import eu.europa.ted.eforms.sdk.component.SdkComponentType;
+
+/**
+ * Creation of SDK components, and parsing of SDK versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SdkComponentBenchmark {
+  public static class Component {
+    private final String value;
+
+    public Component(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  private final SdkComponentDescriptor<Component> descriptor =
+      new SdkComponentDescriptor<>("1", SdkComponentType.SCRIPT_GENERATOR, Component.class);
+
+  @Param({"1.10", "1.10.0", "2.0.0-SNAPSHOT"})
+  public String version;
+
+  @Benchmark
+  public Component createInstance() throws InstantiationException {
+    return descriptor.createInstance(version);
+  }
+
+  @Benchmark
+  public SdkVersion parseVersion() {
+    return new SdkVersion(version);
+  }
+
+  @Benchmark
+  public SdkVersion internedVersion() {
+    return SdkVersion.of(version);
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.benchmark;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkCodelist;
+import eu.europa.ted.eforms.sdk.repository.SdkCodelistRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkFieldRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceLoader;
+
+/**
+ * Loading of the SDK repositories from the sample SDK data of the tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SdkRepositoryBenchmark {
+  private static final Path SDK_ROOT_DIR = Path.of("src", "test", "resources", "eforms-sdk");
+  private static final Path CODELISTS_DIR = Path.of("src", "test", "resources", "codelists");
+  private static final String SDK_VERSION = "1.10";
+
+  private Path fieldsJson;
+  private SdkNodeRepository nodes;
+
+  @Setup
+  public void setUp() throws InstantiationException {
+    fieldsJson = SdkResourceLoader.getResourceAsPath(SDK_VERSION,
+        SdkConstants.SdkResource.FIELDS_JSON, SDK_ROOT_DIR);
+    nodes = new SdkNodeRepository(SDK_VERSION, fieldsJson);
+  }
+
+  @Benchmark
+  public SdkNodeRepository loadNodes() throws InstantiationException {
+    return new SdkNodeRepository(SDK_VERSION, fieldsJson);
+  }
+
+  @Benchmark
+  public SdkFieldRepository loadFields() throws InstantiationException {
+    return new SdkFieldRepository(SDK_VERSION, fieldsJson, nodes);
+  }
+
+  @Benchmark
+  public SdkCodelistRepository loadCodelistsIndex() {
+    return new SdkCodelistRepository(SDK_VERSION, CODELISTS_DIR);
+  }
+
+  @Benchmark
+  public SdkCodelist loadCodelist() {
+    return new SdkCodelistRepository(SDK_VERSION, CODELISTS_DIR).get("accessibility");
+  }
+}
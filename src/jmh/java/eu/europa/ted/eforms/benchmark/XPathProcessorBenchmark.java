@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import eu.europa.ted.eforms.xpath.XPathInfo;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+
+/**
+ * Parsing and combination of the XPath expressions found in fields.json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XPathProcessorBenchmark {
+  private static final String LOT =
+      "/*/cac:ProcurementProjectLot[cbc:ID/@schemeName='Lot']";
+
+  private static final String LOT_VALUE_UNPUBLISH = LOT
+      + "/cac:ProcurementProject/ext:UBLExtensions/ext:UBLExtension/ext:ExtensionContent"
+      + "/efext:EformsExtension/efac:FieldsPrivacy[efbc:FieldIdentifierCode/text()='est-val']";
+
+  private static final Map<String, String> XPATHS = Map.of(
+      "notice", "/*/cbc:SubTypeCode",
+      "lot", LOT + "/cac:ProcurementProject/cac:RequestedTenderTotal"
+          + "/cbc:EstimatedOverallContractAmount/@currencyID",
+      "privacy", LOT_VALUE_UNPUBLISH + "/efbc:ReasonCode");
+
+  @Param({"notice", "lot", "privacy"})
+  public String field;
+
+  private String xpath;
+
+  @Setup
+  public void setUp() {
+    xpath = XPATHS.get(field);
+  }
+
+  @Benchmark
+  public XPathInfo parse() {
+    return XPathProcessor.parse(xpath);
+  }
+
+  @Benchmark
+  public String contextualize() {
+    return XPathProcessor.contextualize(LOT, xpath);
+  }
+
+  @Benchmark
+  public String join() {
+    return XPathProcessor.join(xpath, "cbc:ID/@schemeName");
+  }
+}
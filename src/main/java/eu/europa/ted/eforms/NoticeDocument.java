@@ -33,6 +33,9 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
+import eu.europa.ted.eforms.jfr.NoticeParseEvent;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
 import eu.europa.ted.util.SafeDocumentBuilder;
 
 /**
@@ -81,13 +84,25 @@ public class NoticeDocument {
 
   private static Element parseXmlRoot(final String xmlContents)
       throws ParserConfigurationException, SAXException, IOException {
+    final long start = Metrics.startTimer();
+    final NoticeParseEvent event = new NoticeParseEvent();
+    event.begin();
+
+    Element root = null;
     try (InputStream input =
         new java.io.ByteArrayInputStream(xmlContents.getBytes(StandardCharsets.UTF_8))) {
-      final Element root =
-          SafeDocumentBuilder.buildSafeDocumentBuilderAllowDoctype().parse(input)
-              .getDocumentElement();
+      root = SafeDocumentBuilder.buildSafeDocumentBuilderAllowDoctype().parse(input)
+          .getDocumentElement();
       Validate.notNull(root, "No XML root found");
       return root;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.length = xmlContents.length();
+        event.rootElement = root != null ? root.getTagName() : null;
+        event.commit();
+      }
+      Metrics.recordTime(MetricNames.NOTICE_PARSE, start);
     }
   }
 
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Discovery of the classes annotated as SDK components.
+ */
+@Name("eu.europa.ted.eforms.ComponentScan")
+@Label("SDK Component Scan")
+@Description("Discovery of the SDK components, from the component index or by classpath scan")
+@Category({"eForms", "SDK"})
+@StackTrace(false)
+public final class ComponentScanEvent extends Event {
+  @Label("Source")
+  @Description("\"index and classpath scan\" or \"classpath scan\"")
+  public String source;
+
+  @Label("Packages")
+  @Description("Packages the components are searched in, if restricted")
+  public String packages;
+
+  @Label("Component Count")
+  public int componentCount;
+}
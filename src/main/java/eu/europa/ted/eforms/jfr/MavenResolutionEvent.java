@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Resolution of a version range or of an artifact from the Maven repositories.
+ */
+@Name("eu.europa.ted.eforms.MavenResolution")
+@Label("Maven Resolution")
+@Description("Resolution of a version range or an artifact from the Maven repositories")
+@Category({"eForms", "Maven"})
+@StackTrace(false)
+public final class MavenResolutionEvent extends Event {
+  @Label("Request")
+  @Description("\"version range\" or \"artifact\"")
+  public String request;
+
+  @Label("Artifact")
+  public String artifact;
+
+  @Label("Result")
+  @Description("Versions in the range, or file of the artifact")
+  public String result;
+
+  @Label("Succeeded")
+  public boolean succeeded;
+}
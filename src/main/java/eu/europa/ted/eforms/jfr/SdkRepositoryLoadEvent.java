@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Loading of an SDK repository from a JSON file of the SDK (e.g. fields.json).
+ */
+@Name("eu.europa.ted.eforms.SdkRepositoryLoad")
+@Label("SDK Repository Load")
+@Description("Loading of an SDK repository from a JSON file")
+@Category({"eForms", "SDK"})
+@StackTrace(false)
+public final class SdkRepositoryLoadEvent extends Event {
+  @Label("SDK Version")
+  public String sdkVersion;
+
+  @Label("Repository")
+  @Description("Class of the repository")
+  public String repository;
+
+  @Label("File")
+  public String file;
+
+  @Label("Size")
+  @DataAmount
+  public long size;
+
+  @Label("Entity Count")
+  public int entityCount;
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Parsing of an XPath expression with ANTLR.
+ * <p>
+ * XPath expressions are parsed often, so the stack trace is not recorded, and the event is only
+ * recorded above the threshold set in the recording settings (1 ms by default).
+ */
+@Name("eu.europa.ted.eforms.XPathParse")
+@Label("XPath Parse")
+@Description("Parsing of an XPath expression")
+@Category({"eForms", "XPath"})
+@StackTrace(false)
+@Threshold("1 ms")
+public final class XPathParseEvent extends Event {
+  @Label("XPath")
+  public String xpath;
+
+  @Label("Step Count")
+  public int stepCount;
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Unpacking of an SDK archive.
+ */
+@Name("eu.europa.ted.eforms.ZipExtraction")
+@Label("SDK Archive Extraction")
+@Description("Unpacking of an SDK archive into a directory")
+@Category({"eForms", "SDK"})
+@StackTrace(false)
+public final class ZipExtractionEvent extends Event {
+  @Label("Archive")
+  public String archive;
+
+  @Label("Target Directory")
+  public String targetDir;
+
+  @Label("Archive Size")
+  @DataAmount
+  public long size;
+
+  @Label("File Count")
+  public int fileCount;
+
+  @Label("Unchanged File Count")
+  @Description("Files already unpacked with the same contents, which are reused")
+  public long unchangedFileCount;
+}
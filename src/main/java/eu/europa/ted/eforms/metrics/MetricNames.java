@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.metrics;
+
+/**
+ * Names and tags of the measurements passed to {@link MetricsRecorder}.
+ */
+public final class MetricNames {
+  private MetricNames() {}
+
+  /**
+   * Timer of the loading of a JSON file of the SDK (e.g. fields.json) into a repository. Tags:
+   * {@link #TAG_SDK_VERSION}, {@link #TAG_REPOSITORY}.
+   */
+  public static final String SDK_JSON_LOAD = "eforms.sdk.json.load";
+
+  /**
+   * Gauge of the number of entities in a repository loaded from JSON. Tags:
+   * {@link #TAG_SDK_VERSION}, {@link #TAG_REPOSITORY}.
+   */
+  public static final String SDK_ENTITIES = "eforms.sdk.entities";
+
+  /**
+   * Timer of the loading of a codelist. Tags: {@link #TAG_SDK_VERSION}.
+   */
+  public static final String SDK_CODELIST_LOAD = "eforms.sdk.codelist.load";
+
+  /**
+   * Counter of the lookups of codelists in a codelist repository. Tags:
+   * {@link #TAG_SDK_VERSION}, {@link #TAG_RESULT}.
+   */
+  public static final String SDK_CODELIST_CACHE = "eforms.sdk.codelist.cache";
+
+  /**
+   * Counter of the lookups of notice type definitions in a notice type definition repository.
+   * Tags: {@link #TAG_SDK_VERSION}, {@link #TAG_RESULT}.
+   */
+  public static final String SDK_NOTICE_TYPE_CACHE = "eforms.sdk.notice-type.cache";
+
+  /**
+   * Counter of the instances of SDK components created. Tags: {@link #TAG_SDK_VERSION},
+   * {@link #TAG_COMPONENT_TYPE}, {@link #TAG_RESULT} (whether the constructor was found in the
+   * cache).
+   */
+  public static final String SDK_COMPONENT_CREATE = "eforms.sdk.component.create";
+
+  /**
+   * Timer of the downloads of SDKs, including those found to be up to date. Tags:
+   * {@link #TAG_SDK_VERSION}, {@link #TAG_STATUS}.
+   */
+  public static final String SDK_DOWNLOAD = "eforms.sdk.download";
+
+  /**
+   * Timer of the transfers of artifacts and metadata from remote Maven repositories, successful or
+   * not. Missing metadata is not recorded. Tags: {@link #TAG_STATUS} ({@link #SUCCEEDED} or
+   * {@link #FAILED}).
+   */
+  public static final String MAVEN_TRANSFER = "eforms.maven.transfer";
+
+  /**
+   * Counter of the bytes transferred from remote Maven repositories.
+   */
+  public static final String MAVEN_TRANSFER_BYTES = "eforms.maven.transfer.bytes";
+
+  /**
+   * Timer of the parsing of XPath expressions.
+   */
+  public static final String XPATH_PARSE = "eforms.xpath.parse";
+
+  /**
+   * Timer of the parsing of notices.
+   */
+  public static final String NOTICE_PARSE = "eforms.notice.parse";
+
+  /**
+   * Timer of the compilation of the XML schemas of an SDK.
+   */
+  public static final String SCHEMA_COMPILE = "eforms.schema.compile";
+
+  /**
+   * Timer of the validation of notices against the XML schemas of an SDK.
+   */
+  public static final String NOTICE_SCHEMA_VALIDATION = "eforms.notice.validation.schema";
+
+  /**
+   * Timer of the compilation of a Schematron stylesheet.
+   */
+  public static final String SCHEMATRON_COMPILE = "eforms.schematron.compile";
+
+  /**
+   * Timer of the validation of notices against Schematron stylesheets.
+   */
+  public static final String NOTICE_SCHEMATRON_VALIDATION = "eforms.notice.validation.schematron";
+
+  /**
+   * Timer of the masking of the unpublished values of notices.
+   */
+  public static final String NOTICE_PRIVACY_MASK = "eforms.notice.privacy.mask";
+
+  public static final String TAG_SDK_VERSION = "sdkVersion";
+
+  public static final String TAG_REPOSITORY = "repository";
+
+  public static final String TAG_COMPONENT_TYPE = "componentType";
+
+  public static final String TAG_STATUS = "status";
+
+  /**
+   * Tag with the value {@link #HIT} or {@link #MISS}.
+   */
+  public static final String TAG_RESULT = "result";
+
+  public static final String HIT = "hit";
+
+  public static final String MISS = "miss";
+
+  public static final String SUCCEEDED = "succeeded";
+
+  public static final String FAILED = "failed";
+}
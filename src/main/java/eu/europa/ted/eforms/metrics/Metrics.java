@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.metrics;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Holds the {@link MetricsRecorder} used by the library. Nothing is recorded until a recorder is
+ * set with {@link #setRecorder(MetricsRecorder)}.
+ * <p>
+ * Code measuring hot paths checks {@link #isEnabled()} first, so that nothing is allocated or
+ * timed when metrics are disabled:
+ *
+ * <pre>
+ * final long start = Metrics.startTimer();
+ * ...
+ * if (Metrics.isEnabled()) {
+ *   Metrics.recordTime(MetricNames.XPATH_PARSE, start);
+ * }
+ * </pre>
+ */
+public final class Metrics {
+  private static volatile MetricsRecorder recorder = MetricsRecorder.NONE;
+
+  private static volatile boolean enabled = false;
+
+  private Metrics() {}
+
+  /**
+   * @param metricsRecorder The recorder receiving the measurements, or null to disable metrics
+   */
+  public static void setRecorder(final MetricsRecorder metricsRecorder) {
+    recorder = Objects.requireNonNullElse(metricsRecorder, MetricsRecorder.NONE);
+    enabled = recorder != MetricsRecorder.NONE;
+  }
+
+  public static MetricsRecorder getRecorder() {
+    return recorder;
+  }
+
+  /**
+   * @return True if a recorder is set
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return The start time to pass to {@link #recordTime(String, long, String...)}, or 0 if
+   *         metrics are disabled
+   */
+  public static long startTimer() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Records the time elapsed since the given start time.
+   *
+   * @param name The name of the timer
+   * @param start The start time, as returned by {@link #startTimer()}
+   * @param tags Alternating tag keys and values
+   */
+  public static void recordTime(final String name, final long start, final String... tags) {
+    if (enabled && start != 0) {
+      recorder.recordTime(name, System.nanoTime() - start, tags);
+    }
+  }
+
+  /**
+   * Records a duration measured by other means (e.g. by a third-party library).
+   *
+   * @param name The name of the timer
+   * @param duration The duration
+   * @param tags Alternating tag keys and values
+   */
+  public static void recordDuration(final String name, final Duration duration,
+      final String... tags) {
+    if (enabled) {
+      recorder.recordTime(name, duration.toNanos(), tags);
+    }
+  }
+
+  /**
+   * Increments a counter by one.
+   *
+   * @param name The name of the counter
+   * @param tags Alternating tag keys and values
+   */
+  public static void count(final String name, final String... tags) {
+    if (enabled) {
+      recorder.count(name, 1, tags);
+    }
+  }
+
+  /**
+   * Increments a counter.
+   *
+   * @param name The name of the counter
+   * @param amount The amount to add
+   * @param tags Alternating tag keys and values
+   */
+  public static void count(final String name, final long amount, final String... tags) {
+    if (enabled) {
+      recorder.count(name, amount, tags);
+    }
+  }
+
+  /**
+   * Sets the current value of a gauge.
+   *
+   * @param name The name of the gauge
+   * @param value The current value
+   * @param tags Alternating tag keys and values
+   */
+  public static void gauge(final String name, final double value, final String... tags) {
+    if (enabled) {
+      recorder.gauge(name, value, tags);
+    }
+  }
+}
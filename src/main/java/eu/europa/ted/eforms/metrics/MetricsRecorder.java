@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.metrics;
+
+/**
+ * Receives the measurements of the library, to publish them to a metrics system (e.g. a Micrometer
+ * registry).
+ * <p>
+ * Measurements are identified by a name (see {@link MetricNames}) and by tags, given as
+ * alternating keys and values (e.g. {@code "sdkVersion", "1.10"}), in the same way as
+ * Micrometer's {@code Tags.of(String...)}.
+ * <p>
+ * Implementations are called on the threads doing the measured work, and must be thread-safe and
+ * fast.
+ */
+public interface MetricsRecorder {
+  /**
+   * Does not record anything. Used by default, see {@link Metrics#setRecorder(MetricsRecorder)}.
+   */
+  MetricsRecorder NONE = new MetricsRecorder() {
+    @Override
+    public void count(String name, long amount, String... tags) {
+      // Disabled
+    }
+
+    @Override
+    public void recordTime(String name, long nanos, String... tags) {
+      // Disabled
+    }
+
+    @Override
+    public void gauge(String name, double value, String... tags) {
+      // Disabled
+    }
+  };
+
+  /**
+   * Increments a counter.
+   *
+   * @param name The name of the counter
+   * @param amount The amount to add
+   * @param tags Alternating tag keys and values
+   */
+  void count(String name, long amount, String... tags);
+
+  /**
+   * Records the duration of an operation.
+   *
+   * @param name The name of the timer
+   * @param nanos The duration, in nanoseconds
+   * @param tags Alternating tag keys and values
+   */
+  void recordTime(String name, long nanos, String... tags);
+
+  /**
+   * Sets the current value of a gauge.
+   *
+   * @param name The name of the gauge
+   * @param value The current value
+   * @param tags Alternating tag keys and values
+   */
+  void gauge(String name, double value, String... tags);
+}
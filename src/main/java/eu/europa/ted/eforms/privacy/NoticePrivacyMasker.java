@@ -0,0 +1,423 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.privacy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import org.apache.commons.lang3.Validate;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+import eu.europa.ted.eforms.sdk.entity.SdkDataType;
+import eu.europa.ted.eforms.sdk.entity.SdkField;
+import eu.europa.ted.eforms.sdk.index.SdkGraph;
+import eu.europa.ted.eforms.sdk.index.SdkNodeTreeIndex;
+import eu.europa.ted.eforms.sdk.index.SdkXPathTrieIndex;
+import eu.europa.ted.eforms.sdk.repository.SdkDataTypeRepository;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+
+/**
+ * Copies notices, replacing the values of the fields that must not be published yet with the
+ * privacy mask of their data type (e.g. "unpublished", "-1", "1970-01-01Z").
+ * <p>
+ * A field with privacy settings is withheld when its privacy code field (e.g. BT-195(BT-27)-Lot,
+ * the efbc:FieldIdentifierCode of an efac:FieldsPrivacy element) contains the privacy code of the
+ * field (e.g. "est-val") in the same instance of the lowest common ancestor of the parent nodes of
+ * both fields, so the efac:FieldsPrivacy element can be outside of the element of the parent node
+ * of the value. It can appear before or after the value it withholds, so the notice is read twice
+ * with StAX: once to find the withheld fields, and once to copy it. Only the current element path
+ * and the list of withheld fields are kept in memory, so the memory used does not depend on the
+ * size of the notice.
+ * <p>
+ * Elements are matched to fields with an {@link SdkXPathTrieIndex}, by the qualified names of the
+ * elements, so the notice must use the namespace prefixes used in the XPaths of the SDK.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class NoticePrivacyMasker {
+  /**
+   * Opens the XML of a notice. Called once per pass.
+   */
+  @FunctionalInterface
+  public interface NoticeSource {
+    InputStream open() throws IOException;
+  }
+
+  private final SdkXPathTrieIndex index;
+  private final SdkGraph graph;
+
+  /**
+   * Privacy mask of each field with privacy settings, by field ordinal; null for other fields.
+   */
+  private final String[] masks;
+
+  /**
+   * Privacy code of each field with privacy settings, by field ordinal; null for other fields.
+   */
+  private final String[] privacyCodes;
+
+  /**
+   * Field withheld by each privacy code field, by field ordinal; {@link SdkGraph#NONE} for other
+   * fields.
+   */
+  private final int[] withheldFields;
+
+  /**
+   * Depth of the element of the lowest common ancestor of the parent nodes of each field with
+   * privacy settings and of its privacy code field (1 for the root element), by field ordinal.
+   */
+  private final int[] scopeDepths;
+
+  private final XMLInputFactory inputFactory;
+  private final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
+  private final XMLEventFactory eventFactory = XMLEventFactory.newFactory();
+
+  public NoticePrivacyMasker(final SdkXPathTrieIndex index,
+      final SdkDataTypeRepository dataTypes) {
+    this.index = Validate.notNull(index, "Undefined XPath index");
+    this.graph = index.getGraph();
+    Validate.notNull(dataTypes, "Undefined data types");
+
+    final int fieldCount = this.graph.getFieldCount();
+    this.masks = new String[fieldCount];
+    this.privacyCodes = new String[fieldCount];
+    this.withheldFields = new int[fieldCount];
+    this.scopeDepths = new int[fieldCount];
+    Arrays.fill(this.withheldFields, SdkGraph.NONE);
+
+    final SdkNodeTreeIndex tree = new SdkNodeTreeIndex(this.graph);
+
+    for (int field = 0; field < fieldCount; field++) {
+      final int privacyCodeField = this.graph.getPrivacyCodeField(field);
+      if (!this.graph.hasPrivacy(field) || privacyCodeField == SdkGraph.NONE) {
+        continue;
+      }
+
+      final SdkField sdkField = this.graph.getField(field);
+      final SdkDataType dataType = dataTypes.get(sdkField.getType());
+      Validate.notNull(dataType, "Unknown data type [%s] of field [%s]", sdkField.getType(),
+          sdkField.getId());
+
+      this.masks[field] = dataType.getPrivacyMask();
+      this.privacyCodes[field] = sdkField.getPrivacyCode();
+      this.withheldFields[privacyCodeField] = field;
+
+      final int scope = tree.getFieldsLowestCommonAncestor(field, privacyCodeField);
+      this.scopeDepths[field] = scope == SdkGraph.NONE ? 1
+          : XPathProcessor.parse(this.graph.getNode(scope).getXpathAbsolute()).getSteps().size();
+    }
+
+    this.inputFactory = XMLInputFactory.newFactory();
+    this.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    this.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  /**
+   * @param noticeXmlPath The XML file of a notice
+   * @param output Receives the masked copy of the notice; it is not closed
+   * @return The number of values masked
+   */
+  public int mask(final Path noticeXmlPath, final OutputStream output)
+      throws IOException, XMLStreamException {
+    Validate.notNull(noticeXmlPath, "Undefined Notice XML file path");
+    return mask(() -> Files.newInputStream(noticeXmlPath), output);
+  }
+
+  /**
+   * @param noticeXmlContents The XML of a notice
+   * @return The masked copy of the notice
+   */
+  public String mask(final String noticeXmlContents) throws XMLStreamException {
+    Validate.notBlank(noticeXmlContents, "Invalid Notice XML contents");
+
+    final byte[] bytes = noticeXmlContents.getBytes(StandardCharsets.UTF_8);
+    final ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length);
+    try {
+      mask(() -> new ByteArrayInputStream(bytes), output);
+    } catch (IOException e) {
+      // Not expected when reading from and writing to memory.
+      throw new IllegalStateException(e);
+    }
+    return new String(output.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param source Opens the XML of the notice; called twice
+   * @param output Receives the masked copy of the notice, in UTF-8; it is not closed
+   * @return The number of values masked
+   */
+  public int mask(final NoticeSource source, final OutputStream output)
+      throws IOException, XMLStreamException {
+    Validate.notNull(source, "Undefined notice source");
+    Validate.notNull(output, "Undefined output");
+
+    final long start = Metrics.startTimer();
+
+    final Set<Long> withheld;
+    try (InputStream input = source.open()) {
+      withheld = new Scan().findWithheldFields(input);
+    }
+
+    final int result;
+    try (InputStream input = source.open()) {
+      result = new Copy(withheld).copy(input, output);
+    }
+
+    Metrics.recordTime(MetricNames.NOTICE_PRIVACY_MASK, start);
+
+    return result;
+  }
+
+  private static long key(final int field, final int scopeElement) {
+    return ((long) field << 32) | (scopeElement & 0xffffffffL);
+  }
+
+  private static String toName(final QName name) {
+    return name.getPrefix().isEmpty() ? name.getLocalPart()
+        : name.getPrefix() + ":" + name.getLocalPart();
+  }
+
+  /**
+   * Current element path: the position in the XPath index, and the sequence number of each open
+   * element in document order, so that the instances of a node can be told apart.
+   */
+  private abstract class Pass implements IntConsumer {
+    final SdkXPathTrieIndex.Cursor cursor = NoticePrivacyMasker.this.index.newCursor();
+    int[] elements = new int[32];
+    int depth = 0;
+    int elementCount = 0;
+
+    void enter(final String name) {
+      this.cursor.push(name);
+      if (++this.depth == this.elements.length) {
+        this.elements = Arrays.copyOf(this.elements, this.elements.length * 2);
+      }
+      this.elements[this.depth] = ++this.elementCount;
+    }
+
+    void exit() {
+      this.cursor.pop();
+      this.depth--;
+    }
+
+    /**
+     * @return The sequence number of the open element of the parent node of the given field, or
+     *         {@link SdkGraph#NONE} if the current path is not under such an element
+     */
+    int getScopeElement(final int field) {
+      final int scopeDepth = NoticePrivacyMasker.this.scopeDepths[field];
+      return scopeDepth <= this.depth ? this.elements[scopeDepth] : SdkGraph.NONE;
+    }
+  }
+
+  /**
+   * First pass: finds the privacy code fields, and the instances of the fields they withhold.
+   * <p>
+   * The privacy code fields of all the fields of a node share the same element path, and only
+   * differ by their value, so the value is read and compared to the privacy code of each candidate.
+   */
+  private class Scan extends Pass {
+    private final Set<Long> withheld = new HashSet<>();
+    private int[] candidates = new int[8];
+    private int candidateCount = 0;
+
+    private Set<Long> findWithheldFields(final InputStream input) throws XMLStreamException {
+      final XMLStreamReader reader =
+          NoticePrivacyMasker.this.inputFactory.createXMLStreamReader(input);
+      try {
+        while (reader.hasNext()) {
+          final int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            enter(toName(reader.getName()));
+            this.candidateCount = 0;
+            this.cursor.forEachField(this);
+            if (this.candidateCount > 0) {
+              // Reads up to the end element, which is then not seen by this loop.
+              addWithheldFields(reader.getElementText().trim());
+              exit();
+            }
+          } else if (event == XMLStreamConstants.END_ELEMENT) {
+            exit();
+          }
+        }
+      } finally {
+        reader.close();
+      }
+      return this.withheld;
+    }
+
+    private void addWithheldFields(final String privacyCode) {
+      for (int i = 0; i < this.candidateCount; i++) {
+        final int field = this.candidates[i];
+        if (privacyCode.equals(NoticePrivacyMasker.this.privacyCodes[field])) {
+          final int scopeElement = getScopeElement(field);
+          if (scopeElement != SdkGraph.NONE) {
+            this.withheld.add(key(field, scopeElement));
+          }
+        }
+      }
+    }
+
+    @Override
+    public void accept(final int candidate) {
+      final int field = NoticePrivacyMasker.this.withheldFields[candidate];
+      if (field != SdkGraph.NONE) {
+        if (this.candidateCount == this.candidates.length) {
+          this.candidates = Arrays.copyOf(this.candidates, this.candidateCount * 2);
+        }
+        this.candidates[this.candidateCount++] = field;
+      }
+    }
+  }
+
+  /**
+   * Second pass: copies the notice, masking the values of the withheld fields.
+   */
+  private class Copy extends Pass {
+    private final Set<Long> withheld;
+    private int maskedField = SdkGraph.NONE;
+    private int maskCount = 0;
+
+    private Copy(final Set<Long> withheld) {
+      this.withheld = withheld;
+    }
+
+    private int copy(final InputStream input, final OutputStream output)
+        throws XMLStreamException {
+      final XMLEventReader reader =
+          NoticePrivacyMasker.this.inputFactory.createXMLEventReader(input);
+      final XMLEventWriter writer = NoticePrivacyMasker.this.outputFactory
+          .createXMLEventWriter(output, StandardCharsets.UTF_8.name());
+      try {
+        while (reader.hasNext()) {
+          final XMLEvent event = reader.nextEvent();
+          if (event.isStartDocument()) {
+            writer.add(NoticePrivacyMasker.this.eventFactory
+                .createStartDocument(StandardCharsets.UTF_8.name(), "1.0"));
+          } else if (event.isStartElement()) {
+            final StartElement startElement = event.asStartElement();
+            enter(toName(startElement.getName()));
+            writer.add(maskAttributes(startElement));
+
+            this.maskedField = SdkGraph.NONE;
+            this.cursor.forEachField(this);
+            if (this.maskedField != SdkGraph.NONE) {
+              writer.add(NoticePrivacyMasker.this.eventFactory
+                  .createCharacters(NoticePrivacyMasker.this.masks[this.maskedField]));
+              this.maskCount++;
+              skipContent(reader, writer);
+            }
+          } else if (event.isEndElement()) {
+            exit();
+            writer.add(event);
+          } else {
+            writer.add(event);
+          }
+        }
+        writer.flush();
+      } finally {
+        writer.close();
+        reader.close();
+      }
+      return this.maskCount;
+    }
+
+    /**
+     * Skips the content of the current element, and copies its end element.
+     */
+    private void skipContent(final XMLEventReader reader, final XMLEventWriter writer)
+        throws XMLStreamException {
+      final int elementDepth = this.depth;
+      while (reader.hasNext()) {
+        final XMLEvent event = reader.nextEvent();
+        if (event.isStartElement()) {
+          enter(toName(event.asStartElement().getName()));
+        } else if (event.isEndElement()) {
+          exit();
+          if (this.depth < elementDepth) {
+            writer.add(event);
+            return;
+          }
+        }
+      }
+    }
+
+    private StartElement maskAttributes(final StartElement startElement) {
+      if (!startElement.getAttributes().hasNext()) {
+        return startElement;
+      }
+
+      boolean masked = false;
+      final List<Attribute> attributes = new ArrayList<>();
+      final Iterator<Attribute> iterator = startElement.getAttributes();
+      while (iterator.hasNext()) {
+        final Attribute attribute = iterator.next();
+        this.cursor.push("@" + toName(attribute.getName()));
+        this.maskedField = SdkGraph.NONE;
+        this.cursor.forEachField(this);
+        this.cursor.pop();
+
+        if (this.maskedField != SdkGraph.NONE) {
+          masked = true;
+          this.maskCount++;
+          attributes.add(NoticePrivacyMasker.this.eventFactory.createAttribute(
+              attribute.getName(), NoticePrivacyMasker.this.masks[this.maskedField]));
+        } else {
+          attributes.add(attribute);
+        }
+      }
+
+      if (!masked) {
+        return startElement;
+      }
+      return NoticePrivacyMasker.this.eventFactory.createStartElement(startElement.getName(),
+          attributes.iterator(), startElement.getNamespaces());
+    }
+
+    @Override
+    public void accept(final int candidate) {
+      if (NoticePrivacyMasker.this.masks[candidate] != null) {
+        final int scopeElement = getScopeElement(candidate);
+        if (scopeElement != SdkGraph.NONE
+            && this.withheld.contains(key(candidate, scopeElement))) {
+          this.maskedField = candidate;
+        }
+      }
+    }
+  }
+}
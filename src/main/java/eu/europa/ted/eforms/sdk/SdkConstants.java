@@ -12,8 +12,14 @@ public class SdkConstants {
   public static final String NOTICE_TYPES_JSON_DOCUMENT_TYPE_KEY = "documentType";
   public static final String NOTICE_TYPES_JSON_NAMESPACE_KEY = "namespace";
   public static final String NOTICE_TYPES_JSON_ROOT_ELEMENT_KEY = "rootElement";
+  public static final String NOTICE_TYPE_DEFINITION_METADATA_KEY = "metadata";
+  public static final String NOTICE_TYPE_DEFINITION_CONTENT_KEY = "content";
+  public static final String NOTICE_TYPE_DEFINITION_CONTENT_TYPE_KEY = "contentType";
+  public static final String NOTICE_TYPE_DEFINITION_NODE_ID_KEY = "nodeId";
   public static final String NOTICE_CUSTOMIZATION_ID_VERSION_PREFIX = "eforms-sdk-";
 
+  public static final String VIEW_TEMPLATES_JSON_VIEW_TEMPLATES_KEY = "viewTemplates";
+
   public static final Path DEFAULT_SDK_ROOT = Path.of("eforms-sdk");
 
   public static final String SDK_GROUP_ID = "eu.europa.ted.eforms";
@@ -3,7 +3,9 @@ package eu.europa.ted.eforms.sdk;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
@@ -16,6 +18,35 @@ public class SdkVersion implements Comparable<SdkVersion> {
 
   private static final String SDK_PREFIX = "eforms-sdk-";
 
+  /**
+   * Instances returned by {@link #of(String)}, by the string they were parsed from. Applications
+   * only deal with a limited number of distinct versions, so entries are never evicted.
+   */
+  private static final Map<String, SdkVersion> INTERNED = new ConcurrentHashMap<>();
+
+  // Parts of the version, extracted once since they are used on every comparison and lookup.
+  private final int major;
+  private final int minor;
+  private final int patch;
+
+  private final String majorString;
+  private final String minorString;
+  private final String patchString;
+  private final String withoutPatch;
+  private final int hash;
+
+  /**
+   * Returns a shared instance for the given version string, parsing it only the first time.
+   * Prefer this to the constructor for versions that are looked up repeatedly.
+   *
+   * @param version The version string, optionally prefixed with "eforms-sdk-"
+   * @return The parsed version
+   */
+  public static SdkVersion of(final String version) {
+    Validate.notBlank(version, "Undefined version");
+    return INTERNED.computeIfAbsent(version, SdkVersion::new);
+  }
+
   public SdkVersion(final String version) {
     Validate.notBlank(version, "Undefined version");
 
@@ -26,18 +57,43 @@ public class SdkVersion implements Comparable<SdkVersion> {
 
     // Check that we did get a MINOR part
     Validate.notNull(this.version.getMinor());
+
+    this.major = this.version.getMajor();
+    this.minor = this.version.getMinor();
+    this.patch = this.version.getPatch() == null ? 0 : this.version.getPatch();
+
+    this.majorString = Integer.toString(this.major);
+    this.minorString = Integer.toString(this.minor);
+    this.patchString = Integer.toString(this.patch);
+    this.withoutPatch = this.majorString + "." + this.minorString;
+    this.hash = Objects.hash(this.version);
   }
 
   public String getMajor() {
-    return this.version.getMajor().toString();
+    return this.majorString;
   }
 
   public String getMinor() {
-    return this.version.getMinor().toString();
+    return this.minorString;
   }
 
   public String getPatch() {
-    return this.version.getPatch() == null ? "0" : this.version.getPatch().toString();
+    return this.patchString;
+  }
+
+  public int getMajorNumber() {
+    return this.major;
+  }
+
+  public int getMinorNumber() {
+    return this.minor;
+  }
+
+  /**
+   * @return The patch number, or zero if the version has no patch part
+   */
+  public int getPatchNumber() {
+    return this.patch;
   }
 
   public String getNextMajor() {
@@ -82,7 +138,7 @@ public class SdkVersion implements Comparable<SdkVersion> {
   }
 
   public String toStringWithoutPatch() {
-    return toNormalisedString(false);
+    return this.withoutPatch;
   }
 
   @Override
@@ -100,12 +156,20 @@ public class SdkVersion implements Comparable<SdkVersion> {
       return 0;
     }
 
+    // Suffixes and missing patch parts only matter when major and minor are equal
+    if (this.major != that.major) {
+      return Integer.compare(this.major, that.major);
+    }
+    if (this.minor != that.minor) {
+      return Integer.compare(this.minor, that.minor);
+    }
+
     return this.version.compareTo(that.version);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.version);
+    return this.hash;
   }
 
   @Override
@@ -117,6 +181,6 @@ public class SdkVersion implements Comparable<SdkVersion> {
     if (getClass() != obj.getClass())
       return false;
     SdkVersion other = (SdkVersion) obj;
-    return Objects.equals(this.version, other.version);
+    return this.hash == other.hash && Objects.equals(this.version, other.version);
   }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.component;
+
+/**
+ * Creates instances of an SDK component implementation that has already been resolved by an
+ * {@link SdkComponentFactory}.
+ *
+ * @param <T> The type of the created instances
+ */
+@FunctionalInterface
+public interface SdkComponentCreator<T> {
+  /**
+   * @param initArgs The arguments passed to the constructor of the implementation
+   * @return A new instance of the implementation
+   * @throws InstantiationException If the instance could not be created
+   */
+  T create(Object... initArgs) throws InstantiationException;
+}
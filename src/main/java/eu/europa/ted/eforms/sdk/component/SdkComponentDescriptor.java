@@ -1,18 +1,24 @@
 package eu.europa.ted.eforms.sdk.component;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
 
 /**
  * Descriptor that uniquely identifies an SDK component by its version, type, and qualifier.
@@ -31,6 +37,12 @@ public class SdkComponentDescriptor<T> implements Serializable {
 
   private Class<T> implType;
 
+  /**
+   * Constructors already resolved, by the runtime types of the arguments passed to
+   * {@link #createInstance(Object...)} (null for null arguments).
+   */
+  private transient volatile Map<List<Class<?>>, MethodHandle> constructorCache;
+
   /**
    * Creates a descriptor with the specified SDK version, component type, and qualifier.
    * 
@@ -58,40 +70,120 @@ public class SdkComponentDescriptor<T> implements Serializable {
     this(sdkVersion, componentType, "", implType);
   }
 
-  @SuppressWarnings("unchecked")
   public T createInstance(Object... initArgs) throws InstantiationException {
+    final Object[] args = Optional.ofNullable(initArgs).orElse(new Object[0]);
+
+    final List<Class<?>> paramTypes = Arrays.stream(args)
+        .map((Object o) -> o == null ? null : o.getClass())
+        .collect(Collectors.toList());
+
+    logger.trace("Creating an instance of [{}] using constructor with parameter types: {}",
+        implType, paramTypes);
+
+    final Map<List<Class<?>>, MethodHandle> cache = getConstructorCache();
+    MethodHandle constructor = cache.get(paramTypes);
+    final boolean cacheHit = constructor != null;
+    if (!cacheHit) {
+      try {
+        constructor = cache.computeIfAbsent(paramTypes, this::findConstructor);
+      } catch (SecurityException | IllegalArgumentException e) {
+        throw newInstantiationException(e);
+      }
+    }
+
+    recordCreation(cacheHit);
+
+    return invoke(constructor, args);
+  }
+
+  /**
+   * Resolves the constructor accepting the given parameter types once, and returns a creator that
+   * invokes it directly, without looking it up again for each instance.
+   *
+   * @param paramTypes The types of the arguments that will be passed to the creator
+   * @return A creator of instances of the implementation
+   * @throws IllegalArgumentException If no constructor accepts the given parameter types
+   */
+  public SdkComponentCreator<T> getCreator(final Class<?>... paramTypes) {
+    final MethodHandle constructor = findConstructor(Arrays.asList(paramTypes));
+
+    logger.trace("Resolved constructor of [{}] with parameter types: {}", implType,
+        Arrays.asList(paramTypes));
+
+    return (Object... initArgs) -> {
+      recordCreation(true);
+      return invoke(constructor, Optional.ofNullable(initArgs).orElse(new Object[0]));
+    };
+  }
+
+  private void recordCreation(final boolean cacheHit) {
+    if (Metrics.isEnabled()) {
+      Metrics.count(MetricNames.SDK_COMPONENT_CREATE, MetricNames.TAG_SDK_VERSION, sdkVersion,
+          MetricNames.TAG_COMPONENT_TYPE, componentType.name(), MetricNames.TAG_RESULT,
+          cacheHit ? MetricNames.HIT : MetricNames.MISS);
+    }
+  }
+
+  private T invoke(final MethodHandle constructor, final Object[] args)
+      throws InstantiationException {
+    try {
+      return implType.cast(constructor.invokeExact(args));
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      // Checked and unchecked exceptions thrown by the constructor, or arguments that do not
+      // match the parameter types of the constructor
+      throw newInstantiationException(e);
+    }
+  }
+
+  private InstantiationException newInstantiationException(Throwable cause) {
+    InstantiationException result = new InstantiationException(MessageFormat.format(
+        "Failed to instantiate [{0}] as SDK component type [{1}] for SDK [{2}]. Error was: {3}",
+        implType, componentType, sdkVersion, cause.getMessage()));
+    result.initCause(cause);
+    return result;
+  }
+
+  /**
+   * The cache is not serialized, so it is created again on first use after deserialization.
+   */
+  private Map<List<Class<?>>, MethodHandle> getConstructorCache() {
+    Map<List<Class<?>>, MethodHandle> result = constructorCache;
+    if (result == null) {
+      synchronized (this) {
+        result = constructorCache;
+        if (result == null) {
+          result = new ConcurrentHashMap<>();
+          constructorCache = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Finds the constructor accepting the given parameter types, and adapts it to a method handle
+   * of type {@code (Object[])Object}, so that it can be invoked without reflection.
+   */
+  private MethodHandle findConstructor(List<Class<?>> paramTypes) {
+    Constructor<?> constructor = Arrays.stream(implType.getDeclaredConstructors())
+        .filter((Constructor<?> c) -> constructorHasExpectedParameters(c, paramTypes))
+        .collect(Collectors.collectingAndThen(Collectors.toList(),
+            this::getConstructorAfterAmbiguityCheck));
+
     try {
-      Class<?>[] paramTypes = Arrays
-          .asList(Optional.ofNullable(initArgs).orElse(new Object[0]))
-          .stream()
-          .map((Object o) -> o == null ? null : o.getClass())
-          .collect(Collectors.toList())
-          .toArray(new Class[0]);
-
-      logger.trace("Creating an instance of [{}] using constructor with parameter types: {}",
-          implType, paramTypes);
-
-      Constructor<T> constructor = Optional
-          .ofNullable(
-              (Constructor<T>) Arrays.asList(implType.getDeclaredConstructors()).stream()
-                  .filter((Constructor<?> c) -> constructorHasExpectedParameters(c, paramTypes))
-                  .collect(Collectors.collectingAndThen(Collectors.toList(),
-                      this::getConstructorAfterAmbiguityCheck)))
-          .orElseThrow(() -> new IllegalArgumentException(
-              MessageFormat.format("No constructor found for [{0}] with parameter types: )) {1}",
-                  implType, paramTypes)));
-
-      return constructor.newInstance(initArgs);
-    } catch (SecurityException | IllegalAccessException | IllegalArgumentException
-        | InvocationTargetException e) {
-      throw new InstantiationException(MessageFormat.format(
-          "Failed to instantiate [{0}] as SDK component type [{1}] for SDK [{2}]. Error was: {3}",
-          implType, componentType, sdkVersion, e.getMessage()));
+      return MethodHandles.lookup().unreflectConstructor(constructor)
+          .asSpreader(Object[].class, paramTypes.size())
+          .asType(MethodType.methodType(Object.class, Object[].class));
+    } catch (IllegalAccessException e) {
+      throw new IllegalArgumentException(e.getMessage(), e);
     }
   }
 
   private Constructor<?> getConstructorAfterAmbiguityCheck(List<Constructor<?>> constructors) {
-    Validate.isTrue(CollectionUtils.isNotEmpty(constructors), "No constructors found");
+    Validate.isTrue(CollectionUtils.isNotEmpty(constructors),
+        "No constructor found for [%s] with the given parameter types", implType);
 
     if (constructors.size() > 1) {
       throw new IllegalStateException(
@@ -102,15 +194,16 @@ public class SdkComponentDescriptor<T> implements Serializable {
   }
 
   private boolean constructorHasExpectedParameters(Constructor<?> constructor,
-      Class<?>[] paramTypes) {
+      List<Class<?>> paramTypes) {
     Class<?>[] declaredParamTypes = constructor.getParameterTypes();
 
-    if (declaredParamTypes.length != paramTypes.length) {
+    if (declaredParamTypes.length != paramTypes.size()) {
       return false;
     }
 
     for (int i = 0; i < declaredParamTypes.length; i++) {
-      if (paramTypes[i] != null && !declaredParamTypes[i].isAssignableFrom(paramTypes[i])) {
+      if (paramTypes.get(i) != null
+          && !declaredParamTypes[i].isAssignableFrom(paramTypes.get(i))) {
         return false;
       }
     }
@@ -9,9 +9,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import eu.europa.ted.eforms.sdk.SdkVersion;
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,25 +21,21 @@ public abstract class SdkComponentFactory {
   private static final Logger logger = LoggerFactory.getLogger(SdkComponentFactory.class);
 
   /**
-   * Lazy-init holder for the JVM-wide classpath scan. Triggered the first time any
-   * {@link SdkComponentFactory} subclass is constructed; the resulting list is shared
-   * by all subclasses so that the (potentially expensive) classpath walk runs only once
-   * per JVM rather than once per factory subclass.
+   * Lazy-init holder for the JVM-wide lookup of component classes. Triggered the first time any
+   * {@link SdkComponentFactory} subclass is constructed; the resulting list is shared by all
+   * subclasses so that the lookup (a read of the build-time index, or a potentially expensive
+   * classpath walk) runs only once per JVM rather than once per factory subclass.
    */
   private static final class AnnotatedClassesHolder {
-    static final List<Class<?>> CLASSES = scan();
-
-    private static List<Class<?>> scan() {
-      logger.debug("Scanning the classpath for types annotated with {}", SdkComponent.class);
-      try (ScanResult result = new ClassGraph()
-          .enableAnnotationInfo()
-          .ignoreClassVisibility()
-          .scan()) {
-        return result.getClassesWithAnnotation(SdkComponent.class).loadClasses();
-      }
-    }
+    static final List<Class<?>> CLASSES = SdkComponentIndex.findComponentClasses();
   }
 
+  /**
+   * Results of {@link #normalizeVersion(String)}, shared by all factories. Applications only use a
+   * handful of distinct version strings, so entries are never evicted.
+   */
+  private static final Map<String, String> normalizedVersions = new ConcurrentHashMap<>();
+
   private Map<String, Map<ComponentSelector, SdkComponentDescriptor<?>>> componentsMap;
 
   class ComponentSelector {
@@ -136,6 +131,51 @@ public abstract class SdkComponentFactory {
       final String qualifier, final Class<T> intf, Object... initArgs)
       throws InstantiationException {
 
+    return getComponentDescriptor(sdkVersion, componentType, qualifier, intf)
+        .createInstance(initArgs);
+  }
+
+  /**
+   * Resolves the component implementation and its constructor once and returns a creator for
+   * them, so that many instances can be created without repeating the lookups for each one of
+   * them.
+   *
+   * @param sdkVersion The SDK version
+   * @param componentType The component type
+   * @param intf The type that the created instances are cast to
+   * @param paramTypes The types of the arguments that will be passed to the creator
+   * @return A creator of instances of the resolved implementation
+   * @throws IllegalArgumentException If there is no implementation for the given version and
+   *         type, or if it has no constructor accepting the given parameter types
+   */
+  protected <T> SdkComponentCreator<T> getComponentCreator(String sdkVersion,
+      final SdkComponentType componentType, final Class<T> intf, final Class<?>... paramTypes) {
+    return getComponentCreator(sdkVersion, componentType, "", intf, paramTypes);
+  }
+
+  /**
+   * Resolves the component implementation and its constructor once and returns a creator for
+   * them, so that many instances can be created without repeating the lookups for each one of
+   * them.
+   *
+   * @param sdkVersion The SDK version
+   * @param componentType The component type
+   * @param qualifier The qualifier of the component (empty for the default component)
+   * @param intf The type that the created instances are cast to
+   * @param paramTypes The types of the arguments that will be passed to the creator
+   * @return A creator of instances of the resolved implementation
+   * @throws IllegalArgumentException If there is no implementation for the given version, type
+   *         and qualifier, or if it has no constructor accepting the given parameter types
+   */
+  protected <T> SdkComponentCreator<T> getComponentCreator(String sdkVersion,
+      final SdkComponentType componentType, final String qualifier, final Class<T> intf,
+      final Class<?>... paramTypes) {
+    return getComponentDescriptor(sdkVersion, componentType, qualifier, intf)
+        .getCreator(paramTypes);
+  }
+
+  private <T> SdkComponentDescriptor<T> getComponentDescriptor(String sdkVersion,
+      final SdkComponentType componentType, final String qualifier, final Class<T> intf) {
     String normalizedVersion = normalizeVersion(sdkVersion);
 
     ComponentSelector selector = new ComponentSelector(componentType, qualifier);
@@ -169,15 +209,18 @@ public abstract class SdkComponentFactory {
               sdkVersion, componentType, qualifier));
     }
 
-    return descriptor.createInstance(initArgs);
+    return descriptor;
   }
 
   private static String normalizeVersion(final String sdkVersion) {
-    SdkVersion version = new SdkVersion(sdkVersion);
-    int major = Integer.parseInt(version.getMajor());
-    if (major > 0) {
+    return normalizedVersions.computeIfAbsent(sdkVersion, SdkComponentFactory::parseVersion);
+  }
+
+  private static String parseVersion(final String sdkVersion) {
+    SdkVersion version = SdkVersion.of(sdkVersion);
+    if (version.getMajorNumber() > 0) {
       return version.getMajor();
     }
-    return version.getMajor() + "." + version.getMinor();
+    return version.toStringWithoutPatch();
   }
 }
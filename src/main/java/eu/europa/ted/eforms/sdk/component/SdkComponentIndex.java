@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import eu.europa.ted.eforms.jfr.ComponentScanEvent;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+
+/**
+ * Finds the classes annotated with {@link SdkComponent}.
+ * <p>
+ * The classes are read from the {@value #INDEX_LOCATION} files written at compile time by
+ * {@link SdkComponentIndexProcessor}. The classpath roots (directories or jars) without such a file,
+ * e.g. compiled without the annotation processor, are scanned with ClassGraph. The whole classpath
+ * is scanned when the use of the index is disabled with the {@value #USE_INDEX_PROPERTY} system
+ * property.
+ * <p>
+ * The {@value #PACKAGES_PROPERTY} system property can be set to a comma-separated list of
+ * packages, to only consider components in those packages (and their sub-packages). This also
+ * limits the classpath scan to those packages.
+ */
+final class SdkComponentIndex {
+  private static final Logger logger = LoggerFactory.getLogger(SdkComponentIndex.class);
+
+  static final String INDEX_LOCATION = "META-INF/eforms/sdk-components.idx";
+
+  static final String USE_INDEX_PROPERTY = "eforms.sdk.components.index";
+
+  static final String PACKAGES_PROPERTY = "eforms.sdk.components.packages";
+
+  private SdkComponentIndex() {}
+
+  static List<Class<?>> findComponentClasses() {
+    final ClassLoader classLoader = getClassLoader();
+    final List<String> packages = getConfiguredPackages();
+
+    final ComponentScanEvent event = new ComponentScanEvent();
+    event.begin();
+
+    final Set<String> indexedClasses = new LinkedHashSet<>();
+    final Set<Path> indexedRoots = new HashSet<>();
+    if (!"false".equalsIgnoreCase(System.getProperty(USE_INDEX_PROPERTY))) {
+      readIndex(classLoader, indexedClasses, indexedRoots);
+    }
+
+    final Set<Class<?>> classes = new LinkedHashSet<>();
+    if (!indexedClasses.isEmpty()) {
+      logger.debug("Loading {} types listed in {}", indexedClasses.size(), INDEX_LOCATION);
+      classes.addAll(loadIndexedClasses(indexedClasses, packages, classLoader));
+    }
+    classes.addAll(scan(packages, indexedRoots));
+
+    final List<Class<?>> result = new ArrayList<>(classes);
+    final String source = indexedRoots.isEmpty() ? "classpath scan" : "index and classpath scan";
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.source = source;
+      event.packages = packages.isEmpty() ? null : String.join(",", packages);
+      event.componentCount = result.size();
+      event.commit();
+    }
+
+    return result;
+  }
+
+  private static ClassLoader getClassLoader() {
+    return Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+        .orElseGet(SdkComponentIndex.class::getClassLoader);
+  }
+
+  private static List<String> getConfiguredPackages() {
+    final String value = System.getProperty(PACKAGES_PROPERTY);
+    if (StringUtils.isBlank(value)) {
+      return Collections.emptyList();
+    }
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(StringUtils::isNotEmpty)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Reads the index files found on the classpath.
+   *
+   * @param classNames Receives the names of the classes listed in the index files
+   * @param roots Receives the classpath roots containing an index file
+   */
+  private static void readIndex(final ClassLoader classLoader, final Set<String> classNames,
+      final Set<Path> roots) {
+    try {
+      final Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+      while (indexes.hasMoreElements()) {
+        final URL index = indexes.nextElement();
+        logger.trace("Reading SDK component index [{}]", index);
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+          reader.lines()
+              .map(String::trim)
+              .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+              .forEach(classNames::add);
+        }
+
+        final String url = index.toString();
+        final Path root = toClasspathRoot(url.substring(0, url.length() - INDEX_LOCATION.length()));
+        if (root != null) {
+          roots.add(root);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException(
+          MessageFormat.format("Failed to read the SDK component index [{0}]", INDEX_LOCATION),
+          e);
+    }
+  }
+
+  /**
+   * @param url The URL of a directory, of a jar file, or of the root of a jar file (jar:...!/)
+   * @return The local path of the directory or jar file, or null if it is not a local file
+   */
+  private static Path toClasspathRoot(final String url) {
+    String fileUrl = url;
+    if (fileUrl.startsWith("jar:") && fileUrl.endsWith("!/")) {
+      fileUrl = fileUrl.substring("jar:".length(), fileUrl.length() - "!/".length());
+    }
+
+    try {
+      return Path.of(new URI(fileUrl)).toAbsolutePath().normalize();
+    } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+      logger.trace("Not a local classpath root [{}]: {}", url, e.toString());
+      return null;
+    }
+  }
+
+  private static List<Class<?>> loadIndexedClasses(final Set<String> classNames,
+      final List<String> packages, final ClassLoader classLoader) {
+    final List<Class<?>> result = new ArrayList<>(classNames.size());
+    for (String className : classNames) {
+      if (!isInPackages(className, packages)) {
+        continue;
+      }
+
+      final Class<?> clazz;
+      try {
+        clazz = Class.forName(className, false, classLoader);
+      } catch (ClassNotFoundException | LinkageError e) {
+        logger.warn("Ignoring type [{}] listed in {}: {}", className, INDEX_LOCATION,
+            e.toString());
+        continue;
+      }
+
+      if (clazz.getAnnotation(SdkComponent.class) == null) {
+        logger.warn("Ignoring type [{}] listed in {}: not annotated with {}", className,
+            INDEX_LOCATION, SdkComponent.class);
+        continue;
+      }
+      result.add(clazz);
+    }
+    return result;
+  }
+
+  private static boolean isInPackages(final String className, final List<String> packages) {
+    return packages.isEmpty()
+        || packages.stream().anyMatch(p -> className.startsWith(p + "."));
+  }
+
+  /**
+   * @param excludedRoots Classpath roots not to scan, as their components are already indexed
+   */
+  private static List<Class<?>> scan(final List<String> packages, final Set<Path> excludedRoots) {
+    logger.debug("Scanning the classpath for types annotated with {}, except in {}",
+        SdkComponent.class, excludedRoots);
+
+    final ClassGraph classGraph = new ClassGraph()
+        .enableAnnotationInfo()
+        .ignoreClassVisibility();
+    if (!excludedRoots.isEmpty()) {
+      classGraph.filterClasspathElements((String path) -> {
+        try {
+          return !excludedRoots.contains(Path.of(path).toAbsolutePath().normalize());
+        } catch (InvalidPathException e) {
+          return true;
+        }
+      });
+    }
+    if (!packages.isEmpty()) {
+      classGraph.acceptPackages(packages.toArray(new String[0]));
+    }
+
+    try (ScanResult result = classGraph.scan()) {
+      return result.getClassesWithAnnotation(SdkComponent.class).loadClasses();
+    }
+  }
+}
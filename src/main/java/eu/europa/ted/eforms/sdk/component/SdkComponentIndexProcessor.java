@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the names of all classes annotated with {@link SdkComponent}
+ * to {@code META-INF/eforms/sdk-components.idx}, so that {@link SdkComponentFactory} can find them
+ * at runtime without scanning the classpath.
+ * <p>
+ * The processor is not registered as a service, so that it does not run in every build that has
+ * this library on its classpath. Projects that define their own components can run it explicitly,
+ * e.g. by listing it in the {@code annotationProcessors} of the maven-compiler-plugin, as this
+ * library does. Components that are not in an index are found by scanning the classpath.
+ */
+@SupportedAnnotationTypes("eu.europa.ted.eforms.sdk.component.SdkComponent")
+public class SdkComponentIndexProcessor extends AbstractProcessor {
+  private final Set<String> componentClasses = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations,
+      final RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      if (!componentClasses.isEmpty()) {
+        writeIndex();
+      }
+      return false;
+    }
+
+    for (Element element : roundEnv.getElementsAnnotatedWith(SdkComponent.class)) {
+      if (element instanceof TypeElement) {
+        componentClasses.add(
+            processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+      }
+    }
+    return false;
+  }
+
+  private void writeIndex() {
+    // On incremental builds only the changed sources are processed, so keep the entries of the
+    // previous index whose classes still exist.
+    readPreviousIndex();
+
+    try {
+      FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT,
+          "", SdkComponentIndex.INDEX_LOCATION);
+      try (Writer writer = index.openWriter()) {
+        for (String className : componentClasses) {
+          writer.write(className);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR,
+          "Failed to write the SDK component index: " + e.getMessage());
+    }
+  }
+
+  private void readPreviousIndex() {
+    try {
+      FileObject previous = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT,
+          "", SdkComponentIndex.INDEX_LOCATION);
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(previous.openInputStream(), StandardCharsets.UTF_8))) {
+        reader.lines()
+            .map(String::trim)
+            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+            .filter(this::isStillAnnotated)
+            .forEach(componentClasses::add);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // No previous index
+    }
+  }
+
+  private boolean isStillAnnotated(final String className) {
+    TypeElement type =
+        processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+    return type != null && type.getAnnotation(SdkComponent.class) != null;
+  }
+}
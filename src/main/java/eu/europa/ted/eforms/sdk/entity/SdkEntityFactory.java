@@ -3,6 +3,7 @@ package eu.europa.ted.eforms.sdk.entity;
 import java.util.List;
 import java.util.Optional;
 import com.fasterxml.jackson.databind.JsonNode;
+import eu.europa.ted.eforms.sdk.component.SdkComponentCreator;
 import eu.europa.ted.eforms.sdk.component.SdkComponentFactory;
 import eu.europa.ted.eforms.sdk.component.SdkComponentType;
 
@@ -36,4 +37,35 @@ public class SdkEntityFactory extends SdkComponentFactory {
     return SdkEntityFactory.INSTANCE.getComponentImpl(sdkVersion, SdkComponentType.NOTICE_TYPE,
         SdkNoticeSubtype.class, json);
   }
+
+  // Creators resolve the entity implementation and its constructor once, for repositories that
+  // create many entities of the same SDK version.
+
+  public static SdkCodelistCreator getSdkCodelistCreator(final String sdkVersion) {
+    final SdkComponentCreator<SdkCodelist> creator =
+        SdkEntityFactory.INSTANCE.getComponentCreator(sdkVersion, SdkComponentType.CODELIST,
+            SdkCodelist.class, String.class, String.class, List.class, Optional.class);
+    return (codelistId, codelistVersion, codes, parentId) -> creator.create(codelistId,
+        codelistVersion, codes, parentId);
+  }
+
+  public static SdkEntityCreator<SdkField> getSdkFieldCreator(final String sdkVersion) {
+    return getSdkEntityCreator(sdkVersion, SdkComponentType.FIELD, SdkField.class);
+  }
+
+  public static SdkEntityCreator<SdkNode> getSdkNodeCreator(final String sdkVersion) {
+    return getSdkEntityCreator(sdkVersion, SdkComponentType.NODE, SdkNode.class);
+  }
+
+  public static SdkEntityCreator<SdkNoticeSubtype> getSdkNoticeSubtypeCreator(
+      final String sdkVersion) {
+    return getSdkEntityCreator(sdkVersion, SdkComponentType.NOTICE_TYPE, SdkNoticeSubtype.class);
+  }
+
+  private static <T> SdkEntityCreator<T> getSdkEntityCreator(final String sdkVersion,
+      final SdkComponentType componentType, final Class<T> entityType) {
+    final SdkComponentCreator<T> creator = SdkEntityFactory.INSTANCE
+        .getComponentCreator(sdkVersion, componentType, entityType, JsonNode.class);
+    return (JsonNode json) -> creator.create(json);
+  }
 }
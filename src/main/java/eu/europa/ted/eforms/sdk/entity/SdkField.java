@@ -24,7 +24,10 @@ public abstract class SdkField implements Comparable<SdkField> {
   private SdkNode parentNode;
   private List<SdkField> attributeFields;
   private SdkField attributeOfField;
-  private XPathInfo xpathInfo;
+  /**
+   * Written once, by the first thread to call {@link #getXpathInfo()}, and not modified after.
+   */
+  private volatile XPathInfo xpathInfo;
 
   /**
    * Privacy settings for fields that can be withheld from publication.
@@ -286,13 +289,22 @@ public abstract class SdkField implements Comparable<SdkField> {
   /**
    * Returns parsed XPath information for this field.
    * Provides access to attribute info, path decomposition, and predicate checks.
-   * Lazily initialized on first access.
+   * Lazily initialized on first access, or in advance by
+   * {@code SdkFieldRepository.precomputeXpathInfo()}. The XPath is parsed only once, even when
+   * several threads access it at the same time, and the result can be safely shared.
    */
   public XPathInfo getXpathInfo() {
-    if (this.xpathInfo == null) {
-      this.xpathInfo = XPathProcessor.parse(this.xpathAbsolute);
+    XPathInfo result = this.xpathInfo;
+    if (result == null) {
+      synchronized (this) {
+        result = this.xpathInfo;
+        if (result == null) {
+          result = XPathProcessor.parse(this.xpathAbsolute);
+          this.xpathInfo = result;
+        }
+      }
     }
-    return this.xpathInfo;
+    return result;
   }
 
   /**
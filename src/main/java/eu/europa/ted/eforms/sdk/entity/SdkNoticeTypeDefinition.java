@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.entity;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the definition of a notice subtype, read from its file in the notice-types folder of
+ * the SDK (e.g. 16.json).
+ *
+ * Holds the IDs of the fields used by the notice subtype and of the nodes they belong to, and the
+ * same sets as ordinals of the {@code SdkGraph} the definition was loaded with, so that membership
+ * tests do not involve any string comparison.
+ */
+public class SdkNoticeTypeDefinition {
+  private final String id;
+  private final List<String> fieldIds;
+  private final List<String> nodeIds;
+  private final BitSet fields;
+  private final BitSet nodes;
+
+  @SuppressWarnings("unused")
+  private SdkNoticeTypeDefinition() {
+    throw new UnsupportedOperationException();
+  }
+
+  public SdkNoticeTypeDefinition(final String id, final List<String> fieldIds,
+      final List<String> nodeIds, final BitSet fields, final BitSet nodes) {
+    this.id = id;
+    this.fieldIds = Collections.unmodifiableList(fieldIds);
+    this.nodeIds = Collections.unmodifiableList(nodeIds);
+    this.fields = (BitSet) fields.clone();
+    this.nodes = (BitSet) nodes.clone();
+  }
+
+  public String getId() {
+    return this.id;
+  }
+
+  /**
+   * @return The IDs of the fields used by the notice subtype, in the order they appear in its
+   *         definition
+   */
+  public List<String> getFieldIds() {
+    return this.fieldIds;
+  }
+
+  /**
+   * @return The IDs of the nodes of the groups of the notice subtype, and of the ancestry of the
+   *         parent node of each of its fields
+   */
+  public List<String> getNodeIds() {
+    return this.nodeIds;
+  }
+
+  /**
+   * @return The ordinals of the fields used by the notice subtype
+   */
+  public BitSet getFields() {
+    return (BitSet) this.fields.clone();
+  }
+
+  /**
+   * @return The ordinals of the nodes listed by {@link #getNodeIds()}
+   */
+  public BitSet getNodes() {
+    return (BitSet) this.nodes.clone();
+  }
+
+  public boolean containsField(final int field) {
+    return field >= 0 && this.fields.get(field);
+  }
+
+  public boolean containsNode(final int node) {
+    return node >= 0 && this.nodes.get(node);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SdkNoticeTypeDefinition other = (SdkNoticeTypeDefinition) obj;
+    return Objects.equals(this.id, other.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.id);
+  }
+
+  @Override
+  public String toString() {
+    return this.id;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.entity;
+
+import java.util.Objects;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Represents an entry of view-templates.json: a view template of the SDK, written in EFX, and the
+ * file of the view-templates folder that contains it.
+ */
+public class SdkViewTemplate {
+  private final String id;
+  private final String filename;
+  private final String description;
+
+  @SuppressWarnings("unused")
+  private SdkViewTemplate() {
+    throw new UnsupportedOperationException();
+  }
+
+  public SdkViewTemplate(final String id, final String filename, final String description) {
+    this.id = id;
+    this.filename = filename;
+    this.description = description;
+  }
+
+  public SdkViewTemplate(final JsonNode json) {
+    this(json.get("id").asText(null), json.get("filename").asText(null),
+        json.path("description").asText(null));
+  }
+
+  public String getId() {
+    return this.id;
+  }
+
+  public String getFilename() {
+    return this.filename;
+  }
+
+  public String getDescription() {
+    return this.description;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SdkViewTemplate other = (SdkViewTemplate) obj;
+    return Objects.equals(this.id, other.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.id);
+  }
+
+  @Override
+  public String toString() {
+    return this.id;
+  }
+}
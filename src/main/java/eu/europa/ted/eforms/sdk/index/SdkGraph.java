@@ -0,0 +1,433 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.commons.lang3.Validate;
+import eu.europa.ted.eforms.sdk.entity.SdkField;
+import eu.europa.ted.eforms.sdk.entity.SdkNode;
+import eu.europa.ted.eforms.sdk.repository.SdkFieldRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+
+/**
+ * Compact view of the SDK structure in which every node and field is identified by a dense int
+ * ordinal.
+ * <p>
+ * Parent, ancestry, attribute and privacy links are stored in int arrays, so walking the graph does
+ * not involve string hashing or boxed map lookups. Sets of fields are represented as {@link BitSet}s
+ * indexed by field ordinal.
+ * <p>
+ * Node ordinals are assigned breadth-first from the root node(s), so a node's ordinal is always
+ * greater than the ordinal of its parent. Field ordinals follow the natural order of field IDs.
+ * Missing links are represented by {@link #NONE}.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class SdkGraph {
+  /**
+   * Ordinal used for missing links (e.g. the parent of a root node).
+   */
+  public static final int NONE = -1;
+
+  private final SdkNode[] nodes;
+  private final SdkField[] fields;
+
+  private final Map<String, Integer> nodeOrdinals;
+  private final Map<String, Integer> fieldOrdinals;
+
+  private final int[] nodeParents;
+  private final int[] nodeAncestryOffsets;
+  private final int[] nodeAncestry;
+  private final int[] nodeFieldOffsets;
+  private final int[] nodeFields;
+  private final BitSet repeatableNodes;
+
+  private final int[] fieldParentNodes;
+  private final int[] fieldAttributeOffsets;
+  private final int[] fieldAttributes;
+  private final int[] fieldAttributeOf;
+  private final int[] fieldPrivacyCodeFields;
+  private final int[] fieldJustificationCodeFields;
+  private final int[] fieldJustificationDescriptionFields;
+  private final int[] fieldPublicationDateFields;
+  private final BitSet repeatableFields;
+  private final BitSet fieldsWithPrivacy;
+
+  public SdkGraph(final SdkNodeRepository nodeRepository,
+      final SdkFieldRepository fieldRepository) {
+    Validate.notNull(nodeRepository, "Undefined node repository");
+    Validate.notNull(fieldRepository, "Undefined field repository");
+
+    this.nodes = orderNodes(nodeRepository);
+    this.nodeOrdinals = toOrdinals(this.nodes, SdkNode::getId);
+
+    this.fields = fieldRepository.values().stream()
+        .sorted(Comparator.comparing(SdkField::getId))
+        .toArray(SdkField[]::new);
+    this.fieldOrdinals = toOrdinals(this.fields, SdkField::getId);
+
+    final int nodeCount = this.nodes.length;
+    final int fieldCount = this.fields.length;
+
+    // Nodes: parents, repeatability and ancestry (self first, root last).
+    this.nodeParents = new int[nodeCount];
+    this.repeatableNodes = new BitSet(nodeCount);
+    for (int i = 0; i < nodeCount; i++) {
+      this.nodeParents[i] = getNodeOrdinal(this.nodes[i].getParentId());
+      this.repeatableNodes.set(i, this.nodes[i].isRepeatable());
+    }
+
+    this.nodeAncestryOffsets = new int[nodeCount + 1];
+    final List<Integer> ancestry = new ArrayList<>();
+    for (int i = 0; i < nodeCount; i++) {
+      this.nodeAncestryOffsets[i] = ancestry.size();
+      for (int current = i; current != NONE; current = this.nodeParents[current]) {
+        ancestry.add(current);
+      }
+    }
+    this.nodeAncestryOffsets[nodeCount] = ancestry.size();
+    this.nodeAncestry = ancestry.stream().mapToInt(Integer::intValue).toArray();
+
+    // Fields: parent nodes, attributes and privacy links.
+    this.fieldParentNodes = new int[fieldCount];
+    this.fieldAttributeOf = new int[fieldCount];
+    this.fieldPrivacyCodeFields = new int[fieldCount];
+    this.fieldJustificationCodeFields = new int[fieldCount];
+    this.fieldJustificationDescriptionFields = new int[fieldCount];
+    this.fieldPublicationDateFields = new int[fieldCount];
+    this.repeatableFields = new BitSet(fieldCount);
+    this.fieldsWithPrivacy = new BitSet(fieldCount);
+    this.fieldAttributeOffsets = new int[fieldCount + 1];
+
+    final List<Integer> attributes = new ArrayList<>();
+    for (int i = 0; i < fieldCount; i++) {
+      final SdkField field = this.fields[i];
+
+      this.fieldParentNodes[i] = getNodeOrdinal(field.getParentNodeId());
+      this.fieldAttributeOf[i] = getFieldOrdinal(field.getAttributeOf());
+      this.repeatableFields.set(i, field.isRepeatable());
+
+      this.fieldAttributeOffsets[i] = attributes.size();
+      for (String attributeId : field.getAttributes()) {
+        final int attribute = getFieldOrdinal(attributeId);
+        if (attribute != NONE) {
+          attributes.add(attribute);
+        }
+      }
+
+      final SdkField.PrivacySettings privacy = field.getPrivacySettings();
+      if (privacy != null) {
+        this.fieldsWithPrivacy.set(i);
+        this.fieldPrivacyCodeFields[i] = getFieldOrdinal(privacy.getPrivacyCodeFieldId());
+        this.fieldJustificationCodeFields[i] =
+            getFieldOrdinal(privacy.getJustificationCodeFieldId());
+        this.fieldJustificationDescriptionFields[i] =
+            getFieldOrdinal(privacy.getJustificationDescriptionFieldId());
+        this.fieldPublicationDateFields[i] = getFieldOrdinal(privacy.getPublicationDateFieldId());
+      } else {
+        this.fieldPrivacyCodeFields[i] = NONE;
+        this.fieldJustificationCodeFields[i] = NONE;
+        this.fieldJustificationDescriptionFields[i] = NONE;
+        this.fieldPublicationDateFields[i] = NONE;
+      }
+    }
+    this.fieldAttributeOffsets[fieldCount] = attributes.size();
+    this.fieldAttributes = attributes.stream().mapToInt(Integer::intValue).toArray();
+
+    // Nodes: child fields, grouped by parent node (counting sort on the parent ordinal).
+    this.nodeFieldOffsets = new int[nodeCount + 1];
+    for (int parent : this.fieldParentNodes) {
+      if (parent != NONE) {
+        this.nodeFieldOffsets[parent + 1]++;
+      }
+    }
+    for (int i = 0; i < nodeCount; i++) {
+      this.nodeFieldOffsets[i + 1] += this.nodeFieldOffsets[i];
+    }
+    this.nodeFields = new int[this.nodeFieldOffsets[nodeCount]];
+    final int[] next = Arrays.copyOf(this.nodeFieldOffsets, nodeCount);
+    for (int i = 0; i < fieldCount; i++) {
+      final int parent = this.fieldParentNodes[i];
+      if (parent != NONE) {
+        this.nodeFields[next[parent]++] = i;
+      }
+    }
+  }
+
+  /**
+   * Orders the nodes breadth-first, starting from the nodes that have no (known) parent. Siblings
+   * are ordered by ID so that ordinals are stable for a given SDK version.
+   */
+  private static SdkNode[] orderNodes(final SdkNodeRepository nodeRepository) {
+    final Map<String, List<SdkNode>> children = new HashMap<>();
+    final List<SdkNode> roots = new ArrayList<>();
+
+    for (SdkNode node : nodeRepository.values()) {
+      if (node.getParentId() == null || !nodeRepository.containsKey(node.getParentId())) {
+        roots.add(node);
+      } else {
+        children.computeIfAbsent(node.getParentId(), k -> new ArrayList<>()).add(node);
+      }
+    }
+
+    final List<SdkNode> ordered = new ArrayList<>(nodeRepository.size());
+    final Deque<SdkNode> queue = new ArrayDeque<>();
+    roots.stream().sorted().forEach(queue::add);
+
+    while (!queue.isEmpty()) {
+      final SdkNode node = queue.poll();
+      ordered.add(node);
+      children.getOrDefault(node.getId(), Collections.emptyList()).stream()
+          .sorted()
+          .forEach(queue::add);
+    }
+
+    Validate.isTrue(ordered.size() == nodeRepository.size(),
+        "The SDK node structure contains cycles");
+
+    return ordered.toArray(new SdkNode[0]);
+  }
+
+  private static <T> Map<String, Integer> toOrdinals(final T[] items,
+      final Function<T, String> idGetter) {
+    final Map<String, Integer> ordinals = new HashMap<>(items.length * 2);
+    for (int i = 0; i < items.length; i++) {
+      ordinals.put(idGetter.apply(items[i]), i);
+    }
+    return Collections.unmodifiableMap(ordinals);
+  }
+
+  // Nodes
+
+  public int getNodeCount() {
+    return this.nodes.length;
+  }
+
+  /**
+   * @param nodeId The ID of a node
+   * @return The ordinal of the node, or {@link #NONE} if there is no node with that ID
+   */
+  public int getNodeOrdinal(final String nodeId) {
+    if (nodeId == null) {
+      return NONE;
+    }
+    final Integer ordinal = this.nodeOrdinals.get(nodeId);
+    return ordinal == null ? NONE : ordinal;
+  }
+
+  public SdkNode getNode(final int node) {
+    return this.nodes[node];
+  }
+
+  public String getNodeId(final int node) {
+    return this.nodes[node].getId();
+  }
+
+  /**
+   * @return The ordinal of the parent of the given node, or {@link #NONE} for root nodes
+   */
+  public int getNodeParent(final int node) {
+    return this.nodeParents[node];
+  }
+
+  public boolean isNodeRepeatable(final int node) {
+    return this.repeatableNodes.get(node);
+  }
+
+  /**
+   * @return The number of nodes in the ancestry of the given node, including the node itself
+   */
+  public int getNodeAncestryLength(final int node) {
+    return this.nodeAncestryOffsets[node + 1] - this.nodeAncestryOffsets[node];
+  }
+
+  /**
+   * Returns an element of the ancestry of a node without copying the ancestry.
+   *
+   * @param node The ordinal of the node
+   * @param index Position in the ancestry: 0 is the node itself, 1 its parent, and so on
+   * @return The ordinal of the ancestor at the given position
+   */
+  public int getNodeAncestor(final int node, final int index) {
+    Validate.isTrue(index >= 0 && index < getNodeAncestryLength(node),
+        "Ancestry index out of bounds: %d", index);
+    return this.nodeAncestry[this.nodeAncestryOffsets[node] + index];
+  }
+
+  /**
+   * Ordinal counterpart of {@link SdkNode#getAncestry()}.
+   *
+   * @return The ordinals of the ancestry of the given node, from the node itself to the root
+   */
+  public int[] getNodeAncestry(final int node) {
+    return Arrays.copyOfRange(this.nodeAncestry, this.nodeAncestryOffsets[node],
+        this.nodeAncestryOffsets[node + 1]);
+  }
+
+  /**
+   * @return The fields whose parent is the given node
+   */
+  public BitSet getChildFields(final int node) {
+    final BitSet result = newFieldSet();
+    for (int i = this.nodeFieldOffsets[node]; i < this.nodeFieldOffsets[node + 1]; i++) {
+      result.set(this.nodeFields[i]);
+    }
+    return result;
+  }
+
+  /**
+   * @return The fields whose parent is the given node or any of its descendants
+   */
+  public BitSet getDescendantFields(final int node) {
+    final BitSet result = newFieldSet();
+    for (int field = 0; field < this.fields.length; field++) {
+      final int parent = this.fieldParentNodes[field];
+      if (parent != NONE && isNodeInAncestry(node, parent)) {
+        result.set(field);
+      }
+    }
+    return result;
+  }
+
+  private boolean isNodeInAncestry(final int ancestor, final int node) {
+    for (int i = this.nodeAncestryOffsets[node]; i < this.nodeAncestryOffsets[node + 1]; i++) {
+      if (this.nodeAncestry[i] == ancestor) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Fields
+
+  public int getFieldCount() {
+    return this.fields.length;
+  }
+
+  /**
+   * @param fieldId The ID of a field
+   * @return The ordinal of the field, or {@link #NONE} if there is no field with that ID
+   */
+  public int getFieldOrdinal(final String fieldId) {
+    if (fieldId == null) {
+      return NONE;
+    }
+    final Integer ordinal = this.fieldOrdinals.get(fieldId);
+    return ordinal == null ? NONE : ordinal;
+  }
+
+  public SdkField getField(final int field) {
+    return this.fields[field];
+  }
+
+  public String getFieldId(final int field) {
+    return this.fields[field].getId();
+  }
+
+  /**
+   * @return The ordinal of the parent node of the given field, or {@link #NONE}
+   */
+  public int getFieldParentNode(final int field) {
+    return this.fieldParentNodes[field];
+  }
+
+  public boolean isFieldRepeatable(final int field) {
+    return this.repeatableFields.get(field);
+  }
+
+  /**
+   * @return The ordinals of the attribute fields of the given field
+   */
+  public int[] getFieldAttributes(final int field) {
+    return Arrays.copyOfRange(this.fieldAttributes, this.fieldAttributeOffsets[field],
+        this.fieldAttributeOffsets[field + 1]);
+  }
+
+  /**
+   * @return The ordinal of the field that the given attribute field belongs to, or {@link #NONE}
+   */
+  public int getFieldAttributeOf(final int field) {
+    return this.fieldAttributeOf[field];
+  }
+
+  public boolean hasPrivacy(final int field) {
+    return this.fieldsWithPrivacy.get(field);
+  }
+
+  public int getPrivacyCodeField(final int field) {
+    return this.fieldPrivacyCodeFields[field];
+  }
+
+  public int getJustificationCodeField(final int field) {
+    return this.fieldJustificationCodeFields[field];
+  }
+
+  public int getJustificationDescriptionField(final int field) {
+    return this.fieldJustificationDescriptionFields[field];
+  }
+
+  public int getPublicationDateField(final int field) {
+    return this.fieldPublicationDateFields[field];
+  }
+
+  // Field sets
+
+  /**
+   * @return An empty set of fields, sized for this graph
+   */
+  public BitSet newFieldSet() {
+    return new BitSet(this.fields.length);
+  }
+
+  /**
+   * @return A new set containing the fields with the given IDs; unknown IDs are ignored
+   */
+  public BitSet toFieldSet(final Iterable<String> fieldIds) {
+    final BitSet result = newFieldSet();
+    for (String fieldId : fieldIds) {
+      final int field = getFieldOrdinal(fieldId);
+      if (field != NONE) {
+        result.set(field);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The IDs of the fields in the given set, in ordinal order
+   */
+  public List<String> toFieldIds(final BitSet fieldSet) {
+    final List<String> result = new ArrayList<>(fieldSet.cardinality());
+    fieldSet.stream().forEach(field -> result.add(getFieldId(field)));
+    return result;
+  }
+
+  public BitSet getRepeatableFields() {
+    return (BitSet) this.repeatableFields.clone();
+  }
+
+  public BitSet getFieldsWithPrivacy() {
+    return (BitSet) this.fieldsWithPrivacy.clone();
+  }
+}
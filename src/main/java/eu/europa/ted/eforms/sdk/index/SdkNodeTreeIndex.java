@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.index.SdkGraph.NONE;
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Precomputed answers to structural questions about the SDK node tree.
+ * <p>
+ * Each node gets an Euler-tour interval, so that "is A an ancestor of B" is answered in constant
+ * time. Lowest common ancestors are found with binary lifting in logarithmic time. Depths and the
+ * nearest repeatable ancestor of each node are stored directly.
+ * <p>
+ * Nodes and fields are identified by their ordinals in the {@link SdkGraph} the index was built
+ * from. Instances are immutable and can be shared between threads.
+ */
+public class SdkNodeTreeIndex {
+  private final SdkGraph graph;
+
+  private final int[] depths;
+  private final int[] entryTimes;
+  private final int[] exitTimes;
+  private final int[] nearestRepeatingAncestors;
+
+  /**
+   * Binary lifting table: {@code jumps[k][node]} is the ancestor of {@code node} that is 2^k
+   * levels up, or {@link SdkGraph#NONE}.
+   */
+  private final int[][] jumps;
+
+  public SdkNodeTreeIndex(final SdkGraph graph) {
+    this.graph = Validate.notNull(graph, "Undefined SDK graph");
+
+    final int nodeCount = graph.getNodeCount();
+
+    // Node ordinals are assigned breadth-first, so a parent is always processed before its
+    // children.
+    this.depths = new int[nodeCount];
+    this.nearestRepeatingAncestors = new int[nodeCount];
+    int maxDepth = 0;
+    for (int node = 0; node < nodeCount; node++) {
+      final int parent = graph.getNodeParent(node);
+      this.depths[node] = parent == NONE ? 0 : this.depths[parent] + 1;
+      maxDepth = Math.max(maxDepth, this.depths[node]);
+
+      if (graph.isNodeRepeatable(node)) {
+        this.nearestRepeatingAncestors[node] = node;
+      } else {
+        this.nearestRepeatingAncestors[node] =
+            parent == NONE ? NONE : this.nearestRepeatingAncestors[parent];
+      }
+    }
+
+    this.jumps = buildJumps(graph, maxDepth);
+
+    this.entryTimes = new int[nodeCount];
+    this.exitTimes = new int[nodeCount];
+    computeEulerTour(graph);
+  }
+
+  private static int[][] buildJumps(final SdkGraph graph, final int maxDepth) {
+    final int nodeCount = graph.getNodeCount();
+    final int levels = 32 - Integer.numberOfLeadingZeros(Math.max(1, maxDepth));
+
+    final int[][] result = new int[levels][nodeCount];
+    for (int node = 0; node < nodeCount; node++) {
+      result[0][node] = graph.getNodeParent(node);
+    }
+    for (int k = 1; k < levels; k++) {
+      for (int node = 0; node < nodeCount; node++) {
+        final int half = result[k - 1][node];
+        result[k][node] = half == NONE ? NONE : result[k - 1][half];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Assigns entry and exit times with an iterative depth-first traversal, using a child list in
+   * compressed form (offsets into a single array).
+   */
+  private void computeEulerTour(final SdkGraph graph) {
+    final int nodeCount = graph.getNodeCount();
+
+    final int[] childOffsets = new int[nodeCount + 1];
+    for (int node = 0; node < nodeCount; node++) {
+      final int parent = graph.getNodeParent(node);
+      if (parent != NONE) {
+        childOffsets[parent + 1]++;
+      }
+    }
+    for (int node = 0; node < nodeCount; node++) {
+      childOffsets[node + 1] += childOffsets[node];
+    }
+    final int[] children = new int[childOffsets[nodeCount]];
+    final int[] next = Arrays.copyOf(childOffsets, nodeCount);
+    for (int node = 0; node < nodeCount; node++) {
+      final int parent = graph.getNodeParent(node);
+      if (parent != NONE) {
+        children[next[parent]++] = node;
+      }
+    }
+
+    final int[] stack = new int[nodeCount];
+    final int[] cursor = new int[nodeCount];
+    int time = 0;
+
+    for (int root = 0; root < nodeCount; root++) {
+      if (graph.getNodeParent(root) != NONE) {
+        continue;
+      }
+
+      int top = 0;
+      stack[top] = root;
+      cursor[root] = childOffsets[root];
+      this.entryTimes[root] = time++;
+
+      while (top >= 0) {
+        final int node = stack[top];
+        if (cursor[node] < childOffsets[node + 1]) {
+          final int child = children[cursor[node]++];
+          stack[++top] = child;
+          cursor[child] = childOffsets[child];
+          this.entryTimes[child] = time++;
+        } else {
+          this.exitTimes[node] = time++;
+          top--;
+        }
+      }
+    }
+  }
+
+  public SdkGraph getGraph() {
+    return this.graph;
+  }
+
+  /**
+   * @return The depth of the node; root nodes have a depth of zero
+   */
+  public int getDepth(final int node) {
+    return this.depths[node];
+  }
+
+  /**
+   * @return True if {@code ancestor} is a proper ancestor of {@code node}
+   */
+  public boolean isAncestor(final int ancestor, final int node) {
+    return ancestor != node && isAncestorOrSelf(ancestor, node);
+  }
+
+  /**
+   * @return True if {@code ancestor} is {@code node} or one of its ancestors
+   */
+  public boolean isAncestorOrSelf(final int ancestor, final int node) {
+    return this.entryTimes[ancestor] <= this.entryTimes[node]
+        && this.exitTimes[node] <= this.exitTimes[ancestor];
+  }
+
+  /**
+   * @return The lowest node that is an ancestor-or-self of both given nodes, or
+   *         {@link SdkGraph#NONE} if the nodes are in different trees
+   */
+  public int getLowestCommonAncestor(final int first, final int second) {
+    if (isAncestorOrSelf(first, second)) {
+      return first;
+    }
+    if (isAncestorOrSelf(second, first)) {
+      return second;
+    }
+
+    // Climb from "first" as high as possible while staying below the common ancestor.
+    int node = first;
+    for (int k = this.jumps.length - 1; k >= 0; k--) {
+      final int candidate = this.jumps[k][node];
+      if (candidate != NONE && !isAncestorOrSelf(candidate, second)) {
+        node = candidate;
+      }
+    }
+    return this.graph.getNodeParent(node);
+  }
+
+  /**
+   * @return The ancestor of the node that is the given number of levels up, or
+   *         {@link SdkGraph#NONE} if the node is not that deep
+   */
+  public int getAncestorAtDistance(final int node, final int distance) {
+    Validate.isTrue(distance >= 0, "Negative distance: %d", distance);
+
+    int result = node;
+    for (int k = 0; result != NONE && (distance >> k) != 0; k++) {
+      if (k >= this.jumps.length) {
+        return NONE;
+      }
+      if (((distance >> k) & 1) != 0) {
+        result = this.jumps[k][result];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The node itself if it is repeatable, otherwise its closest repeatable ancestor, or
+   *         {@link SdkGraph#NONE} if there is none
+   */
+  public int getNearestRepeatingAncestor(final int node) {
+    return this.nearestRepeatingAncestors[node];
+  }
+
+  // Field-level queries, answered through the parent node of each field.
+
+  /**
+   * @return The lowest common ancestor of the parent nodes of the two fields, or
+   *         {@link SdkGraph#NONE}
+   */
+  public int getFieldsLowestCommonAncestor(final int firstField, final int secondField) {
+    final int first = this.graph.getFieldParentNode(firstField);
+    final int second = this.graph.getFieldParentNode(secondField);
+    if (first == NONE || second == NONE) {
+      return NONE;
+    }
+    return getLowestCommonAncestor(first, second);
+  }
+
+  /**
+   * @return True if the field is located (directly or not) under the given node
+   */
+  public boolean isFieldUnder(final int field, final int node) {
+    final int parent = this.graph.getFieldParentNode(field);
+    return parent != NONE && isAncestorOrSelf(node, parent);
+  }
+
+  /**
+   * @return The nearest repeatable node containing the field, or {@link SdkGraph#NONE}
+   */
+  public int getFieldNearestRepeatingAncestor(final int field) {
+    final int parent = this.graph.getFieldParentNode(field);
+    return parent == NONE ? NONE : this.nearestRepeatingAncestors[parent];
+  }
+
+  // Convenience methods working with IDs.
+
+  public boolean isAncestor(final String ancestorId, final String nodeId) {
+    final int ancestor = this.graph.getNodeOrdinal(ancestorId);
+    final int node = this.graph.getNodeOrdinal(nodeId);
+    return ancestor != NONE && node != NONE && isAncestor(ancestor, node);
+  }
+
+  /**
+   * @return The ID of the lowest common ancestor of the two nodes, or null if there is none
+   */
+  public String getLowestCommonAncestor(final String firstNodeId, final String secondNodeId) {
+    final int first = this.graph.getNodeOrdinal(firstNodeId);
+    final int second = this.graph.getNodeOrdinal(secondNodeId);
+    if (first == NONE || second == NONE) {
+      return null;
+    }
+    final int result = getLowestCommonAncestor(first, second);
+    return result == NONE ? null : this.graph.getNodeId(result);
+  }
+
+  /**
+   * @return The ID of the lowest common ancestor of the parent nodes of the two fields, or null
+   */
+  public String getFieldsLowestCommonAncestor(final String firstFieldId,
+      final String secondFieldId) {
+    final int first = this.graph.getFieldOrdinal(firstFieldId);
+    final int second = this.graph.getFieldOrdinal(secondFieldId);
+    if (first == NONE || second == NONE) {
+      return null;
+    }
+    final int result = getFieldsLowestCommonAncestor(first, second);
+    return result == NONE ? null : this.graph.getNodeId(result);
+  }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.index.SdkGraph.NONE;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.Validate;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+
+/**
+ * Memoized results of {@link XPathProcessor#contextualize(String, String)} between each field and
+ * every node in its ancestry, and between each node and every one of its proper ancestors.
+ * <p>
+ * Values are computed lazily on first request, or all at once with {@link #precompute()}. Each
+ * (item, ancestor) pair occupies one slot in a flat array, and identical relative XPaths share a
+ * single {@link String} instance. The computed values can be saved with {@link #writeTo} and
+ * restored with {@link #readFrom}, so that they do not need to be recomputed on every start-up.
+ * <p>
+ * Instances are safe for concurrent use.
+ */
+public class SdkRelativeXPathIndex {
+  private static final int SNAPSHOT_FORMAT_VERSION = 1;
+
+  private final SdkGraph graph;
+
+  /**
+   * Slots of field {@code f} start at {@code fieldSlotOffsets[f]}; there is one slot for each node
+   * in the ancestry of the field's parent node (parent node first).
+   */
+  private final int[] fieldSlotOffsets;
+
+  /**
+   * Slots of node {@code n} start at {@code nodeSlotOffsets[n]}; there is one slot for each proper
+   * ancestor of the node (parent first).
+   */
+  private final int[] nodeSlotOffsets;
+
+  private final AtomicReferenceArray<String> values;
+
+  private final Map<String, String> distinctValues = new ConcurrentHashMap<>();
+
+  public SdkRelativeXPathIndex(final SdkGraph graph) {
+    this.graph = Validate.notNull(graph, "Undefined SDK graph");
+
+    int slots = 0;
+
+    this.fieldSlotOffsets = new int[graph.getFieldCount() + 1];
+    for (int field = 0; field < graph.getFieldCount(); field++) {
+      this.fieldSlotOffsets[field] = slots;
+      final int parent = graph.getFieldParentNode(field);
+      slots += parent == NONE ? 0 : graph.getNodeAncestryLength(parent);
+    }
+    this.fieldSlotOffsets[graph.getFieldCount()] = slots;
+
+    this.nodeSlotOffsets = new int[graph.getNodeCount() + 1];
+    for (int node = 0; node < graph.getNodeCount(); node++) {
+      this.nodeSlotOffsets[node] = slots;
+      slots += graph.getNodeAncestryLength(node) - 1;
+    }
+    this.nodeSlotOffsets[graph.getNodeCount()] = slots;
+
+    this.values = new AtomicReferenceArray<>(slots);
+  }
+
+  public SdkGraph getGraph() {
+    return this.graph;
+  }
+
+  /**
+   * Returns the XPath of a field relative to a context node.
+   * <p>
+   * The result is memoized when the context node is in the ancestry of the field's parent node.
+   * For any other context node the result is computed on every call.
+   *
+   * @param field The ordinal of the field
+   * @param contextNode The ordinal of the context node
+   * @return The XPath of the field, relative to the context node
+   */
+  public String getFieldXPath(final int field, final int contextNode) {
+    final int slot = getFieldSlot(field, contextNode);
+    if (slot == NONE) {
+      return XPathProcessor.contextualize(this.graph.getNode(contextNode).getXpathAbsolute(),
+          this.graph.getField(field).getXpathAbsolute());
+    }
+    return getOrCompute(slot);
+  }
+
+  /**
+   * Returns the XPath of a node relative to a context node.
+   * <p>
+   * The result is memoized when the context node is a proper ancestor of the node. For any other
+   * context node the result is computed on every call.
+   *
+   * @param node The ordinal of the node
+   * @param contextNode The ordinal of the context node
+   * @return The XPath of the node, relative to the context node
+   */
+  public String getNodeXPath(final int node, final int contextNode) {
+    final int slot = getNodeSlot(node, contextNode);
+    if (slot == NONE) {
+      return XPathProcessor.contextualize(this.graph.getNode(contextNode).getXpathAbsolute(),
+          this.graph.getNode(node).getXpathAbsolute());
+    }
+    return getOrCompute(slot);
+  }
+
+  /**
+   * ID-based counterpart of {@link #getFieldXPath(int, int)}.
+   */
+  public String getFieldXPath(final String fieldId, final String contextNodeId) {
+    return getFieldXPath(toFieldOrdinal(fieldId), toNodeOrdinal(contextNodeId));
+  }
+
+  /**
+   * ID-based counterpart of {@link #getNodeXPath(int, int)}.
+   */
+  public String getNodeXPath(final String nodeId, final String contextNodeId) {
+    return getNodeXPath(toNodeOrdinal(nodeId), toNodeOrdinal(contextNodeId));
+  }
+
+  /**
+   * Computes every value that has not been computed yet, in parallel.
+   *
+   * @return This index
+   */
+  public SdkRelativeXPathIndex precompute() {
+    IntStream.range(0, this.values.length()).parallel().forEach(this::getOrCompute);
+    return this;
+  }
+
+  /**
+   * @return The number of slots, i.e. the number of (item, ancestor) pairs that can be memoized
+   */
+  public int getSlotCount() {
+    return this.values.length();
+  }
+
+  /**
+   * @return The number of slots that have been computed so far
+   */
+  public int getComputedCount() {
+    int count = 0;
+    for (int slot = 0; slot < this.values.length(); slot++) {
+      if (this.values.get(slot) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return The number of distinct relative XPaths computed so far
+   */
+  public int getDistinctCount() {
+    return this.distinctValues.size();
+  }
+
+  private int toFieldOrdinal(final String fieldId) {
+    final int field = this.graph.getFieldOrdinal(fieldId);
+    Validate.isTrue(field != NONE, "Unknown field [%s]", fieldId);
+    return field;
+  }
+
+  private int toNodeOrdinal(final String nodeId) {
+    final int node = this.graph.getNodeOrdinal(nodeId);
+    Validate.isTrue(node != NONE, "Unknown node [%s]", nodeId);
+    return node;
+  }
+
+  private int getFieldSlot(final int field, final int contextNode) {
+    final int parent = this.graph.getFieldParentNode(field);
+    if (parent == NONE) {
+      return NONE;
+    }
+    final int length = this.graph.getNodeAncestryLength(parent);
+    for (int i = 0; i < length; i++) {
+      if (this.graph.getNodeAncestor(parent, i) == contextNode) {
+        return this.fieldSlotOffsets[field] + i;
+      }
+    }
+    return NONE;
+  }
+
+  private int getNodeSlot(final int node, final int contextNode) {
+    final int length = this.graph.getNodeAncestryLength(node);
+    for (int i = 1; i < length; i++) {
+      if (this.graph.getNodeAncestor(node, i) == contextNode) {
+        return this.nodeSlotOffsets[node] + i - 1;
+      }
+    }
+    return NONE;
+  }
+
+  private String getOrCompute(final int slot) {
+    final String cached = this.values.get(slot);
+    if (cached != null) {
+      return cached;
+    }
+
+    final String computed = this.distinctValues.computeIfAbsent(compute(slot), v -> v);
+    // If another thread got there first, both computed the same value; keep the first one.
+    return this.values.compareAndSet(slot, null, computed) ? computed : this.values.get(slot);
+  }
+
+  private String compute(final int slot) {
+    if (slot < this.nodeSlotOffsets[0]) {
+      final int field = findOwner(this.fieldSlotOffsets, slot);
+      final int parent = this.graph.getFieldParentNode(field);
+      final int context =
+          this.graph.getNodeAncestor(parent, slot - this.fieldSlotOffsets[field]);
+      return XPathProcessor.contextualize(this.graph.getNode(context).getXpathAbsolute(),
+          this.graph.getField(field).getXpathAbsolute());
+    }
+
+    final int node = findOwner(this.nodeSlotOffsets, slot);
+    final int context = this.graph.getNodeAncestor(node, slot - this.nodeSlotOffsets[node] + 1);
+    return XPathProcessor.contextualize(this.graph.getNode(context).getXpathAbsolute(),
+        this.graph.getNode(node).getXpathAbsolute());
+  }
+
+  /**
+   * Finds the item owning a slot, i.e. the last item whose offset is not greater than the slot.
+   */
+  private static int findOwner(final int[] offsets, final int slot) {
+    int low = 0;
+    int high = offsets.length - 2;
+    while (low < high) {
+      final int middle = (low + high + 1) >>> 1;
+      if (offsets[middle] <= slot) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Fingerprint of the parts of the graph that the stored values depend on. Used to reject
+   * snapshots taken from a different SDK structure.
+   */
+  private static int fingerprint(final SdkGraph graph) {
+    int result = 1;
+    for (int node = 0; node < graph.getNodeCount(); node++) {
+      result = 31 * result + Objects.hash(graph.getNodeId(node),
+          graph.getNode(node).getXpathAbsolute(), graph.getNodeParent(node));
+    }
+    for (int field = 0; field < graph.getFieldCount(); field++) {
+      result = 31 * result + Objects.hash(graph.getFieldId(field),
+          graph.getField(field).getXpathAbsolute(), graph.getFieldParentNode(field));
+    }
+    return result;
+  }
+
+  /**
+   * Writes the values computed so far to a stream. The stream is not closed.
+   * <p>
+   * The snapshot contains the table of distinct relative XPaths followed by one reference into that
+   * table per slot.
+   *
+   * @param output The stream to write to
+   * @throws IOException If writing fails
+   */
+  public void writeTo(final OutputStream output) throws IOException {
+    final DataOutputStream data = new DataOutputStream(output);
+
+    final Map<String, Integer> table = new HashMap<>();
+    final List<String> distinct = new ArrayList<>();
+    final int[] references = new int[this.values.length()];
+    for (int slot = 0; slot < references.length; slot++) {
+      final String value = this.values.get(slot);
+      if (value == null) {
+        references[slot] = NONE;
+      } else {
+        references[slot] = table.computeIfAbsent(value, v -> {
+          distinct.add(v);
+          return distinct.size() - 1;
+        });
+      }
+    }
+
+    data.writeInt(SNAPSHOT_FORMAT_VERSION);
+    data.writeInt(fingerprint(this.graph));
+    data.writeInt(references.length);
+    data.writeInt(distinct.size());
+    for (String value : distinct) {
+      data.writeUTF(value);
+    }
+    for (int reference : references) {
+      data.writeInt(reference);
+    }
+    data.flush();
+  }
+
+  /**
+   * Restores an index from a snapshot written by {@link #writeTo}. The stream is not closed.
+   *
+   * @param input The stream to read from
+   * @param graph The graph of the SDK version the snapshot was taken from
+   * @return The restored index
+   * @throws IOException If reading fails
+   * @throws IllegalArgumentException If the snapshot was not taken from the given graph
+   */
+  public static SdkRelativeXPathIndex readFrom(final InputStream input, final SdkGraph graph)
+      throws IOException {
+    final DataInputStream data = new DataInputStream(input);
+    final SdkRelativeXPathIndex result = new SdkRelativeXPathIndex(graph);
+
+    final int formatVersion = data.readInt();
+    if (formatVersion != SNAPSHOT_FORMAT_VERSION) {
+      throw new IllegalArgumentException(
+          MessageFormat.format("Unsupported snapshot format version [{0}]", formatVersion));
+    }
+    if (data.readInt() != fingerprint(graph) || data.readInt() != result.values.length()) {
+      throw new IllegalArgumentException("The snapshot does not match the given SDK graph");
+    }
+
+    final String[] distinct = new String[data.readInt()];
+    for (int i = 0; i < distinct.length; i++) {
+      distinct[i] = data.readUTF();
+      result.distinctValues.put(distinct[i], distinct[i]);
+    }
+    for (int slot = 0; slot < result.values.length(); slot++) {
+      final int reference = data.readInt();
+      if (reference != NONE) {
+        result.values.set(slot, distinct[reference]);
+      }
+    }
+
+    return result;
+  }
+}
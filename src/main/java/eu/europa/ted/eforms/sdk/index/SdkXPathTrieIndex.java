@@ -0,0 +1,402 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.index.SdkGraph.NONE;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import org.apache.commons.lang3.Validate;
+import eu.europa.ted.eforms.xpath.XPathInfo;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+import eu.europa.ted.eforms.xpath.XPathStep;
+
+/**
+ * Reverse index from locations in a notice to the fields and nodes that describe them.
+ * <p>
+ * The steps of the absolute XPath of every field and node are stored in a trie. Each trie state
+ * corresponds to one step, and steps with the same name but different predicates (e.g. the
+ * {@code cac:ProcurementProjectLot} of a lot and of a part) get separate states. The predicates are
+ * not evaluated: they are kept as discriminators, available through
+ * {@link #getFieldDiscriminators(int)} and {@link #getNodeDiscriminators(int)}, for callers that
+ * have the content needed to tell the candidates apart.
+ * <p>
+ * Locations are given as sequences of qualified element names, as found in the notice (e.g.
+ * {@code /ContractNotice/cac:ProcurementProject/cbc:ID}), optionally followed by an attribute
+ * name prefixed with {@code @}. A lookup takes time proportional to the depth of the location. For
+ * streaming parsers, a {@link Cursor} follows the stack of open elements one step at a time.
+ * <p>
+ * Fields and nodes are identified by their ordinals in the {@link SdkGraph} the index was built
+ * from. Instances are immutable and can be shared between threads; cursors cannot.
+ */
+public class SdkXPathTrieIndex {
+  private static final String WILDCARD = "*";
+
+  private static final int ROOT_STATE = 0;
+
+  private static final int[] NO_STATES = new int[0];
+
+  private final SdkGraph graph;
+
+  private final int[] stateParents;
+  private final List<List<String>> statePredicates;
+  private final List<Map<String, int[]>> stateChildren;
+
+  private final int[] stateFieldOffsets;
+  private final int[] stateFields;
+  private final int[] stateNodeOffsets;
+  private final int[] stateNodes;
+
+  private final int[] fieldStates;
+  private final int[] nodeStates;
+
+  public SdkXPathTrieIndex(final SdkGraph graph) {
+    this.graph = Validate.notNull(graph, "Undefined SDK graph");
+
+    final Builder builder = new Builder();
+
+    this.nodeStates = new int[graph.getNodeCount()];
+    for (int node = 0; node < graph.getNodeCount(); node++) {
+      this.nodeStates[node] =
+          builder.add(XPathProcessor.parse(graph.getNode(node).getXpathAbsolute()));
+    }
+
+    this.fieldStates = new int[graph.getFieldCount()];
+    for (int field = 0; field < graph.getFieldCount(); field++) {
+      this.fieldStates[field] = builder.add(graph.getField(field).getXpathInfo());
+    }
+
+    final int stateCount = builder.parents.size();
+    this.stateParents = builder.parents.stream().mapToInt(Integer::intValue).toArray();
+    this.statePredicates = Collections.unmodifiableList(builder.predicates);
+
+    final List<Map<String, int[]>> children = new ArrayList<>(stateCount);
+    for (Map<String, List<Integer>> stateChildren : builder.children) {
+      final Map<String, int[]> frozen = new HashMap<>(stateChildren.size() * 2);
+      stateChildren.forEach((String step, List<Integer> states) -> frozen.put(step,
+          states.stream().mapToInt(Integer::intValue).toArray()));
+      children.add(frozen);
+    }
+    this.stateChildren = Collections.unmodifiableList(children);
+
+    this.stateFieldOffsets = new int[stateCount + 1];
+    this.stateFields = groupByState(this.fieldStates, this.stateFieldOffsets);
+    this.stateNodeOffsets = new int[stateCount + 1];
+    this.stateNodes = groupByState(this.nodeStates, this.stateNodeOffsets);
+  }
+
+  /**
+   * Groups items by trie state (counting sort on the state).
+   *
+   * @param itemStates The state of each item, or {@link SdkGraph#NONE}
+   * @param offsets Receives the offset of the items of each state in the returned array
+   * @return The items, ordered by state
+   */
+  private static int[] groupByState(final int[] itemStates, final int[] offsets) {
+    final int stateCount = offsets.length - 1;
+    for (int state : itemStates) {
+      if (state != NONE) {
+        offsets[state + 1]++;
+      }
+    }
+    for (int i = 0; i < stateCount; i++) {
+      offsets[i + 1] += offsets[i];
+    }
+
+    final int[] result = new int[offsets[stateCount]];
+    final int[] next = Arrays.copyOf(offsets, stateCount);
+    for (int item = 0; item < itemStates.length; item++) {
+      final int state = itemStates[item];
+      if (state != NONE) {
+        result[next[state]++] = item;
+      }
+    }
+    return result;
+  }
+
+  public SdkGraph getGraph() {
+    return this.graph;
+  }
+
+  /**
+   * @return A new cursor, positioned above the root element
+   */
+  public Cursor newCursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Finds the fields whose absolute XPath matches a location, ignoring predicates.
+   *
+   * @param path The location, e.g. {@code /ContractNotice/cbc:ID} or
+   *        {@code /ContractNotice/cbc:ID/@schemeName}
+   * @return The candidate fields; an empty set if there is none
+   */
+  public BitSet findFields(final String path) {
+    return moveTo(path).getFields();
+  }
+
+  /**
+   * Finds the nodes whose absolute XPath matches a location, ignoring predicates.
+   *
+   * @param path The location, e.g. {@code /ContractNotice/cac:ProcurementProjectLot}
+   * @return The candidate nodes; an empty set if there is none
+   */
+  public BitSet findNodes(final String path) {
+    return moveTo(path).getNodes();
+  }
+
+  /**
+   * ID-based counterpart of {@link #findFields(String)}.
+   */
+  public List<String> findFieldIds(final String path) {
+    return this.graph.toFieldIds(findFields(path));
+  }
+
+  /**
+   * ID-based counterpart of {@link #findNodes(String)}.
+   */
+  public List<String> findNodeIds(final String path) {
+    final BitSet nodes = findNodes(path);
+    final List<String> result = new ArrayList<>(nodes.cardinality());
+    nodes.stream().forEach(node -> result.add(this.graph.getNodeId(node)));
+    return result;
+  }
+
+  private Cursor moveTo(final String path) {
+    Validate.notNull(path, "Undefined path");
+
+    final Cursor cursor = newCursor();
+    for (String step : path.split("/")) {
+      if (!step.isEmpty()) {
+        cursor.push(step);
+      }
+    }
+    return cursor;
+  }
+
+  /**
+   * Returns the predicates that distinguish a field from other fields at the same location.
+   *
+   * @param field The ordinal of the field
+   * @return The predicates of each step of the field's absolute XPath, from the root; steps
+   *         without predicates have an empty list
+   */
+  public List<List<String>> getFieldDiscriminators(final int field) {
+    return getDiscriminators(this.fieldStates[field]);
+  }
+
+  /**
+   * Returns the predicates that distinguish a node from other nodes at the same location.
+   *
+   * @param node The ordinal of the node
+   * @return The predicates of each step of the node's absolute XPath, from the root; steps without
+   *         predicates have an empty list
+   */
+  public List<List<String>> getNodeDiscriminators(final int node) {
+    return getDiscriminators(this.nodeStates[node]);
+  }
+
+  private List<List<String>> getDiscriminators(final int state) {
+    final List<List<String>> result = new ArrayList<>();
+    for (int current = state; current != ROOT_STATE; current = this.stateParents[current]) {
+      result.add(this.statePredicates.get(current));
+    }
+    Collections.reverse(result);
+    return result;
+  }
+
+  /**
+   * Follows a stack of elements, such as the one maintained by a streaming XML parser, through the
+   * trie. Call {@link #push(String)} when an element starts and {@link #pop()} when it ends.
+   * <p>
+   * The cursor can go deeper than any field or node: it then matches nothing until it is popped
+   * back. Cursors are not thread-safe.
+   */
+  public final class Cursor {
+    private int[][] levels = new int[16][];
+    private int depth = 0;
+
+    private Cursor() {
+      this.levels[0] = new int[] {ROOT_STATE};
+    }
+
+    /**
+     * Moves one step down.
+     *
+     * @param name The qualified name of an element (e.g. {@code cbc:ID}), or the name of an
+     *        attribute prefixed with {@code @}
+     */
+    public void push(final String name) {
+      final int[] current = this.levels[this.depth];
+
+      int[] next = NO_STATES;
+      if (current.length > 0) {
+        next = getChildren(current, name);
+      }
+
+      if (++this.depth == this.levels.length) {
+        this.levels = Arrays.copyOf(this.levels, this.levels.length * 2);
+      }
+      this.levels[this.depth] = next;
+    }
+
+    private int[] getChildren(final int[] states, final String name) {
+      final boolean isElement = !name.startsWith("@");
+
+      int[] result = NO_STATES;
+      for (int state : states) {
+        final Map<String, int[]> children = SdkXPathTrieIndex.this.stateChildren.get(state);
+        result = concat(result, children.get(name));
+        if (isElement) {
+          result = concat(result, children.get(WILDCARD));
+        }
+      }
+      return result;
+    }
+
+    private int[] concat(final int[] first, final int[] second) {
+      if (second == null) {
+        return first;
+      }
+      if (first.length == 0) {
+        return second;
+      }
+      final int[] result = Arrays.copyOf(first, first.length + second.length);
+      System.arraycopy(second, 0, result, first.length, second.length);
+      return result;
+    }
+
+    /**
+     * Moves one step up.
+     */
+    public void pop() {
+      Validate.validState(this.depth > 0, "The cursor is already at the top");
+      this.levels[this.depth--] = null;
+    }
+
+    /**
+     * Moves back above the root element.
+     */
+    public void reset() {
+      while (this.depth > 0) {
+        pop();
+      }
+    }
+
+    /**
+     * @return The number of steps pushed and not yet popped
+     */
+    public int getDepth() {
+      return this.depth;
+    }
+
+    /**
+     * @return True if at least one field or node path goes through the current location
+     */
+    public boolean isOnPath() {
+      return this.levels[this.depth].length > 0;
+    }
+
+    /**
+     * @return The fields whose absolute XPath matches the current location, ignoring predicates
+     */
+    public BitSet getFields() {
+      final BitSet result = SdkXPathTrieIndex.this.graph.newFieldSet();
+      forEachField(result::set);
+      return result;
+    }
+
+    /**
+     * Passes each field whose absolute XPath matches the current location, ignoring predicates, to
+     * the given consumer. Unlike {@link #getFields()}, does not allocate a set.
+     */
+    public void forEachField(final IntConsumer consumer) {
+      for (int state : this.levels[this.depth]) {
+        for (int i = stateFieldOffsets[state]; i < stateFieldOffsets[state + 1]; i++) {
+          consumer.accept(stateFields[i]);
+        }
+      }
+    }
+
+    /**
+     * @return The nodes whose absolute XPath matches the current location, ignoring predicates
+     */
+    public BitSet getNodes() {
+      final BitSet result = new BitSet(SdkXPathTrieIndex.this.graph.getNodeCount());
+      for (int state : this.levels[this.depth]) {
+        for (int i = stateNodeOffsets[state]; i < stateNodeOffsets[state + 1]; i++) {
+          result.set(stateNodes[i]);
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Mutable trie, used while the index is being built.
+   */
+  private static class Builder {
+    private final List<Integer> parents = new ArrayList<>();
+    private final List<List<String>> predicates = new ArrayList<>();
+    private final List<Map<String, List<Integer>>> children = new ArrayList<>();
+    private final Map<String, Integer> states = new HashMap<>();
+
+    private Builder() {
+      newState(NONE, Collections.emptyList());
+    }
+
+    private int newState(final int parent, final List<String> stepPredicates) {
+      final int state = this.parents.size();
+      this.parents.add(parent);
+      this.predicates.add(Collections.unmodifiableList(new ArrayList<>(stepPredicates)));
+      this.children.add(new HashMap<>());
+      return state;
+    }
+
+    /**
+     * @return The state of the last step of the given XPath
+     */
+    private int add(final XPathInfo xpathInfo) {
+      int state = ROOT_STATE;
+      for (XPathStep step : xpathInfo.getSteps()) {
+        final String name = normalize(step.getStepText());
+        final String key = state + "/" + name + step.getPredicateText();
+
+        final int parent = state;
+        state = this.states.computeIfAbsent(key, k -> {
+          final int child = newState(parent, step.getPredicates());
+          this.children.get(parent).computeIfAbsent(name, n -> new ArrayList<>()).add(child);
+          return child;
+        });
+      }
+      return state;
+    }
+
+    private static String normalize(final String stepText) {
+      if (stepText.startsWith("child::")) {
+        return stepText.substring("child::".length());
+      }
+      if (stepText.startsWith("attribute::")) {
+        return "@" + stepText.substring("attribute::".length());
+      }
+      return stepText;
+    }
+  }
+}
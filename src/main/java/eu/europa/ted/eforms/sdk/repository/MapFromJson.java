@@ -14,6 +14,10 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import eu.europa.ted.eforms.jfr.SdkRepositoryLoadEvent;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceCache;
 
 public abstract class MapFromJson<T> extends HashMap<String, T> {
   private static final long serialVersionUID = 1L;
@@ -55,9 +59,13 @@ public abstract class MapFromJson<T> extends HashMap<String, T> {
       throws IOException, InstantiationException {
     logger.debug("Populating maps for context, jsonPath={}", jsonPath);
 
+    final long start = Metrics.startTimer();
+    final SdkRepositoryLoadEvent event = new SdkRepositoryLoadEvent();
+    event.begin();
+
     final ObjectMapper mapper = buildStandardJacksonObjectMapper();
 
-    try (InputStream fieldsJsonInputStream = Files.newInputStream(jsonPath)) {
+    try (InputStream fieldsJsonInputStream = SdkResourceCache.newInputStream(jsonPath)) {
       if (fieldsJsonInputStream == null) {
         throw new RuntimeException(String.format("File not found: %s", jsonPath));
       }
@@ -69,6 +77,24 @@ public abstract class MapFromJson<T> extends HashMap<String, T> {
       final JsonNode json = mapper.readTree(fieldsJsonInputStream);
       populateMap(json, context);
     }
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.sdkVersion = sdkVersion;
+      event.repository = getClass().getSimpleName();
+      event.file = jsonPath.toUri().toString();
+      event.size = Files.size(jsonPath);
+      event.entityCount = size();
+      event.commit();
+    }
+
+    if (Metrics.isEnabled()) {
+      final String repository = getClass().getSimpleName();
+      Metrics.recordTime(MetricNames.SDK_JSON_LOAD, start, MetricNames.TAG_SDK_VERSION,
+          sdkVersion, MetricNames.TAG_REPOSITORY, repository);
+      Metrics.gauge(MetricNames.SDK_ENTITIES, size(), MetricNames.TAG_SDK_VERSION, sdkVersion,
+          MetricNames.TAG_REPOSITORY, repository);
+    }
   }
 
   /**
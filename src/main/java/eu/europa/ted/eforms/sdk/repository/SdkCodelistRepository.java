@@ -2,6 +2,7 @@ package eu.europa.ted.eforms.sdk.repository;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
@@ -28,10 +29,15 @@ import com.helger.genericode.v10.LongName;
 import com.helger.genericode.v10.Row;
 import com.helger.genericode.v10.SimpleCodeList;
 import com.helger.genericode.v10.Value;
+import eu.europa.ted.eforms.jfr.GenericodeParseEvent;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
 import eu.europa.ted.eforms.sdk.domain.codelist.CodelistForIndex;
 import eu.europa.ted.eforms.sdk.domain.codelist.CodelistsIndex;
 import eu.europa.ted.eforms.sdk.entity.SdkCodelist;
+import eu.europa.ted.eforms.sdk.entity.SdkCodelistCreator;
 import eu.europa.ted.eforms.sdk.entity.SdkEntityFactory;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceCache;
 import eu.europa.ted.util.GenericodeTools;
 
 public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
@@ -44,6 +50,11 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
 
   private final Map<String, Pair<Path, CodeListDocument>> codelistInfoByCodelistIds;
 
+  /**
+   * Resolved on first use. Not serialized, so it is resolved again after deserialization.
+   */
+  private transient SdkCodelistCreator codelistCreator;
+
   @SuppressWarnings("unused")
   private SdkCodelistRepository() {
     throw new UnsupportedOperationException();
@@ -77,6 +88,11 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
       return null;
     }
 
+    if (Metrics.isEnabled()) {
+      Metrics.count(MetricNames.SDK_CODELIST_CACHE, MetricNames.TAG_SDK_VERSION, sdkVersion,
+          MetricNames.TAG_RESULT, containsKey(codelistId) ? MetricNames.HIT : MetricNames.MISS);
+    }
+
     return computeIfAbsent((String) codelistId,
         Unchecked.function((String key) -> loadSdkCodelist(key).orElse(null)));
   }
@@ -90,6 +106,10 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
       throws InstantiationException {
     logger.debug("Loading SDK codelist with ID [{}] for SDK version [{}]", codeListId, sdkVersion);
 
+    final long start = Metrics.startTimer();
+    final GenericodeParseEvent event = new GenericodeParseEvent();
+    event.begin();
+
     // Find the SDK codelist .gc file that corresponds to the passed reference.
     // Stream the data from that file.
     final Optional<CodeListDocument> codelist =
@@ -128,15 +148,37 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
 
     final Optional<String> parentId = extractParentId(identification);
 
-    final Optional<SdkCodelist> result = Optional.of(SdkEntityFactory.getSdkCodelist(sdkVersion,
-        codeListId, codelistVersion.orElse(null), codes, parentId));
+    final Optional<SdkCodelist> result = Optional.of(getCodelistCreator().create(codeListId,
+        codelistVersion.orElse(null), codes, parentId));
 
     logger.debug("Finished loading SDK codelist with ID [{}] for SDK version [{}]", codeListId,
         sdkVersion);
 
+    event.end();
+    if (event.shouldCommit()) {
+      event.sdkVersion = sdkVersion;
+      event.codelistId = codeListId;
+      event.file = Optional.ofNullable(codelistInfoByCodelistIds.get(codeListId))
+          .map(Pair::getKey)
+          .map((Path path) -> path.toUri().toString())
+          .orElse(null);
+      event.codeCount = codes.size();
+      event.commit();
+    }
+
+    Metrics.recordTime(MetricNames.SDK_CODELIST_LOAD, start, MetricNames.TAG_SDK_VERSION,
+        sdkVersion);
+
     return result;
   }
 
+  private SdkCodelistCreator getCodelistCreator() {
+    if (codelistCreator == null) {
+      codelistCreator = SdkEntityFactory.getSdkCodelistCreator(sdkVersion);
+    }
+    return codelistCreator;
+  }
+
   /**
    * Get eForms parent id.
    */
@@ -177,16 +219,19 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
     Validate.isTrue(Files.isDirectory(codelistsDir),
         MessageFormat.format("Not a directory: {0}", codelistsDir));
 
-    final Path indexFile = Path.of(codelistsDir.toString(), "codelists.json");
+    // Resolved against the directory, as it may be inside an SDK archive
+    final Path indexFile = codelistsDir.resolve("codelists.json");
 
     logger.debug("Loading codelists index from [{}]", indexFile);
-    CodelistsIndex codelistsIndex =
-        createObjectMapper().readValue(indexFile.toFile(), CodelistsIndex.class);
+    final CodelistsIndex codelistsIndex;
+    try (InputStream input = SdkResourceCache.newInputStream(indexFile)) {
+      codelistsIndex = createObjectMapper().readValue(input, CodelistsIndex.class);
+    }
 
     final Map<String, Pair<Path, CodeListDocument>> result = new HashMap<>();
     codelistsIndex.getCodelists().stream().forEach((CodelistForIndex codelist) -> {
       final String codelistId = codelist.getId();
-      final Path codelistPath = Path.of(codelistsDir.toString(), codelist.getFilename());
+      final Path codelistPath = codelistsDir.resolve(codelist.getFilename());
 
       logger.trace("Adding path [{}] for codelist [{}]", codelistPath, codelistId);
       if (!Files.isRegularFile(codelistPath)) {
@@ -209,8 +254,9 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
    * @param codelistPath The codelist file's path
    * @return The codelist file's contents
    * @throws FileNotFoundException If the codelist file's path is undefined or not an existing file
+   * @throws IOException If the codelist file cannot be read
    */
-  private CodeListDocument getCodelistContents(Path codelistPath) throws FileNotFoundException {
+  private CodeListDocument getCodelistContents(Path codelistPath) throws IOException {
     Validate.notNull(codelistPath, "Undefined codelist path");
 
     if (!Files.isRegularFile(codelistPath)) {
@@ -218,7 +264,9 @@ public class SdkCodelistRepository extends HashMap<String, SdkCodelist> {
     }
 
     logger.debug("Reading from file [{}]", codelistPath);
-    return Optional.ofNullable(GenericodeTools.getMarshaller().read(codelistPath)).orElse(null);
+    try (InputStream input = SdkResourceCache.newInputStream(codelistPath)) {
+      return GenericodeTools.getMarshaller().read(input);
+    }
   }
 
   private ObjectMapper createObjectMapper() {
@@ -3,15 +3,21 @@ package eu.europa.ted.eforms.sdk.repository;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkEntityCreator;
 import eu.europa.ted.eforms.sdk.entity.SdkEntityFactory;
 import eu.europa.ted.eforms.sdk.entity.SdkField;
 
 public class SdkFieldRepository extends MapFromJson<SdkField> {
   private static final long serialVersionUID = 1L;
 
+  private static final Logger logger = LoggerFactory.getLogger(SdkFieldRepository.class);
+
   public SdkFieldRepository(String sdkVersion, Path jsonPath) throws InstantiationException {
     super(sdkVersion, jsonPath);
   }
@@ -21,6 +27,36 @@ public class SdkFieldRepository extends MapFromJson<SdkField> {
     super(sdkVersion, jsonPath, nodeRepository);
   }
 
+  /**
+   * @param precomputeXpathInfo If true, the XPath of every field is parsed when the repository is
+   *        loaded (see {@link #precomputeXpathInfo()}), instead of on first use
+   */
+  public SdkFieldRepository(String sdkVersion, Path jsonPath, SdkNodeRepository nodeRepository,
+      boolean precomputeXpathInfo) throws InstantiationException {
+    super(sdkVersion, jsonPath, nodeRepository);
+
+    if (precomputeXpathInfo) {
+      precomputeXpathInfo();
+    }
+  }
+
+  /**
+   * Parses the XPath of every field in parallel, in the common fork-join pool, so that
+   * {@link SdkField#getXpathInfo()} does not parse on first use.
+   *
+   * @return This repository
+   */
+  public SdkFieldRepository precomputeXpathInfo() {
+    final long start = System.nanoTime();
+
+    values().parallelStream().forEach(SdkField::getXpathInfo);
+
+    logger.debug("Parsed the XPath of {} fields for SDK version [{}] in {} ms", size(),
+        sdkVersion, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    return this;
+  }
+
   @Override
   protected void populateMap(final JsonNode json) throws InstantiationException {
     populateMap(json, new Object[0]);
@@ -35,9 +71,11 @@ public class SdkFieldRepository extends MapFromJson<SdkField> {
 
     final ArrayNode fields = (ArrayNode) json.get(SdkConstants.FIELDS_JSON_FIELDS_KEY);
 
+    final SdkEntityCreator<SdkField> creator = SdkEntityFactory.getSdkFieldCreator(sdkVersion);
+
     // First pass: create all field entities and add them to the map
     for (final JsonNode field : fields) {
-      final SdkField sdkField = SdkEntityFactory.getSdkField(sdkVersion, field);
+      final SdkField sdkField = creator.create(field);
       put(sdkField.getId(), sdkField);
 
       if (nodes != null && sdkField.getParentNodeId() != null) {
@@ -6,6 +6,7 @@ import java.util.List;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkEntityCreator;
 import eu.europa.ted.eforms.sdk.entity.SdkEntityFactory;
 import eu.europa.ted.eforms.sdk.entity.SdkNode;
 
@@ -20,10 +21,11 @@ public class SdkNodeRepository extends MapFromJson<SdkNode> {
   protected void populateMap(final JsonNode json) throws InstantiationException {
     final ArrayNode nodes = (ArrayNode) json.get(SdkConstants.FIELDS_JSON_XML_STRUCTURE_KEY);
     List<SdkNode> needsParentWiring = new ArrayList<>();
+    final SdkEntityCreator<SdkNode> creator = SdkEntityFactory.getSdkNodeCreator(sdkVersion);
 
     // First pass: create all nodes, optimistically set parent if already loaded
     for (final JsonNode node : nodes) {
-      final SdkNode sdkNode = SdkEntityFactory.getSdkNode(sdkVersion, node);
+      final SdkNode sdkNode = creator.create(node);
       put(sdkNode.getId(), sdkNode);
 
       if (sdkNode.getParentId() != null) {
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import eu.europa.ted.eforms.jfr.SdkRepositoryLoadEvent;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkNoticeTypeDefinition;
+import eu.europa.ted.eforms.sdk.index.SdkGraph;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceCache;
+
+/**
+ * Repository for the definitions of notice subtypes, loaded from the files of the notice-types
+ * folder of the SDK (e.g. 16.json).
+ *
+ * A definition is only read when it is first requested. The most recently used definitions are
+ * kept in memory, up to a maximum number; the least recently used one is evicted when a new one is
+ * loaded beyond that number. Instances are safe for concurrent use.
+ */
+public class SdkNoticeTypeDefinitionRepository {
+  private static final Logger logger =
+      LoggerFactory.getLogger(SdkNoticeTypeDefinitionRepository.class);
+
+  public static final int DEFAULT_MAX_SIZE = 16;
+
+  private static final String FIELD_CONTENT_TYPE = "field";
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final String sdkVersion;
+  private final Path noticeTypesDir;
+  private final SdkGraph graph;
+
+  private final Map<String, SdkNoticeTypeDefinition> cache;
+
+  public SdkNoticeTypeDefinitionRepository(final String sdkVersion, final Path noticeTypesDir,
+      final SdkGraph graph) {
+    this(sdkVersion, noticeTypesDir, graph, DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param sdkVersion The SDK version
+   * @param noticeTypesDir The notice-types folder of the SDK
+   * @param graph The graph of the fields and nodes of the same SDK version, used to compute the
+   *        ordinals of the fields and nodes of each definition
+   * @param maxSize The maximum number of definitions kept in memory
+   */
+  public SdkNoticeTypeDefinitionRepository(final String sdkVersion, final Path noticeTypesDir,
+      final SdkGraph graph, final int maxSize) {
+    this.sdkVersion = Validate.notBlank(sdkVersion, "Undefined SDK version");
+    this.noticeTypesDir = Validate.notNull(noticeTypesDir, "Undefined notice types directory");
+    this.graph = Validate.notNull(graph, "Undefined SDK graph");
+    Validate.isTrue(maxSize > 0, "The maximum size must be positive: %d", maxSize);
+
+    Validate.isTrue(Files.isDirectory(noticeTypesDir),
+        "Notice types directory [%s] is not found or not a directory", noticeTypesDir);
+
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(
+          final Map.Entry<String, SdkNoticeTypeDefinition> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the definition of a notice subtype, reading it if it is not in memory.
+   *
+   * @param noticeSubtypeId The ID of the notice subtype (e.g. "16", "E1", "X01")
+   * @return The definition, or null if the SDK has no definition for this notice subtype
+   */
+  public SdkNoticeTypeDefinition get(final String noticeSubtypeId) {
+    Validate.notBlank(noticeSubtypeId, "Undefined notice subtype");
+
+    SdkNoticeTypeDefinition result;
+    synchronized (this.cache) {
+      result = this.cache.get(noticeSubtypeId);
+    }
+
+    if (Metrics.isEnabled()) {
+      Metrics.count(MetricNames.SDK_NOTICE_TYPE_CACHE, MetricNames.TAG_SDK_VERSION, sdkVersion,
+          MetricNames.TAG_RESULT, result != null ? MetricNames.HIT : MetricNames.MISS);
+    }
+
+    if (result != null) {
+      return result;
+    }
+
+    // Read outside of the lock, so that other definitions can be served in the meantime. If
+    // another thread loads the same definition concurrently, the first one stored wins.
+    final SdkNoticeTypeDefinition loaded = load(noticeSubtypeId);
+    if (loaded == null) {
+      return null;
+    }
+
+    synchronized (this.cache) {
+      result = this.cache.putIfAbsent(noticeSubtypeId, loaded);
+    }
+    return result != null ? result : loaded;
+  }
+
+  /**
+   * @return The number of definitions currently in memory
+   */
+  public int getSize() {
+    synchronized (this.cache) {
+      return this.cache.size();
+    }
+  }
+
+  /**
+   * Removes all the definitions from memory. They are read again when next requested.
+   */
+  public void clear() {
+    synchronized (this.cache) {
+      this.cache.clear();
+    }
+  }
+
+  public SdkGraph getGraph() {
+    return this.graph;
+  }
+
+  private SdkNoticeTypeDefinition load(final String noticeSubtypeId) {
+    final Path jsonPath = this.noticeTypesDir.resolve(noticeSubtypeId + ".json");
+    // Subtype IDs containing path separators would point outside of the notice types folder.
+    if (!this.noticeTypesDir.equals(jsonPath.getParent()) || !Files.isRegularFile(jsonPath)) {
+      logger.debug("No definition found for notice subtype [{}] of SDK version [{}]",
+          noticeSubtypeId, sdkVersion);
+      return null;
+    }
+
+    logger.debug("Loading definition of notice subtype [{}] for SDK version [{}]",
+        noticeSubtypeId, sdkVersion);
+
+    final long start = Metrics.startTimer();
+    final SdkRepositoryLoadEvent event = new SdkRepositoryLoadEvent();
+    event.begin();
+
+    final JsonNode json;
+    final long size;
+    try (InputStream input = SdkResourceCache.newInputStream(jsonPath)) {
+      size = Files.size(jsonPath);
+      json = OBJECT_MAPPER.readTree(input);
+    } catch (IOException e) {
+      throw new RuntimeException(MessageFormat.format(
+          "Failed to load the definition of notice subtype [{0}] from [{1}]", noticeSubtypeId,
+          jsonPath), e);
+    }
+
+    final Set<String> fieldIds = new LinkedHashSet<>();
+    final Set<String> nodeIds = new LinkedHashSet<>();
+    collectContent(json.get(SdkConstants.NOTICE_TYPE_DEFINITION_METADATA_KEY), fieldIds, nodeIds);
+    collectContent(json.get(SdkConstants.NOTICE_TYPE_DEFINITION_CONTENT_KEY), fieldIds, nodeIds);
+
+    final BitSet fields = this.graph.toFieldSet(fieldIds);
+    final BitSet nodes = new BitSet(this.graph.getNodeCount());
+    nodeIds.forEach((String nodeId) -> setNode(nodes, this.graph.getNodeOrdinal(nodeId)));
+    fields.stream().forEach((int field) -> {
+      final int parent = this.graph.getFieldParentNode(field);
+      if (parent != SdkGraph.NONE) {
+        for (int ancestor : this.graph.getNodeAncestry(parent)) {
+          setNode(nodes, ancestor);
+        }
+      }
+    });
+    nodes.stream().forEach((int node) -> nodeIds.add(this.graph.getNodeId(node)));
+
+    final SdkNoticeTypeDefinition result = new SdkNoticeTypeDefinition(noticeSubtypeId,
+        new ArrayList<>(fieldIds), new ArrayList<>(nodeIds), fields, nodes);
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.sdkVersion = sdkVersion;
+      event.repository = getClass().getSimpleName();
+      event.file = jsonPath.toUri().toString();
+      event.size = size;
+      event.entityCount = fieldIds.size();
+      event.commit();
+    }
+
+    if (Metrics.isEnabled()) {
+      Metrics.recordTime(MetricNames.SDK_JSON_LOAD, start, MetricNames.TAG_SDK_VERSION,
+          sdkVersion, MetricNames.TAG_REPOSITORY, getClass().getSimpleName());
+    }
+
+    return result;
+  }
+
+  private static void setNode(final BitSet nodes, final int node) {
+    if (node != SdkGraph.NONE) {
+      nodes.set(node);
+    }
+  }
+
+  /**
+   * Collects the IDs of the fields and of the nodes of the groups in a content array of a notice
+   * type definition, recursively.
+   */
+  private static void collectContent(final JsonNode content, final Set<String> fieldIds,
+      final Set<String> nodeIds) {
+    if (content == null || !content.isArray()) {
+      return;
+    }
+
+    for (JsonNode item : content) {
+      final String id = item.path("id").asText(null);
+      if (FIELD_CONTENT_TYPE
+          .equals(item.path(SdkConstants.NOTICE_TYPE_DEFINITION_CONTENT_TYPE_KEY).asText())) {
+        if (id != null) {
+          fieldIds.add(id);
+        }
+      } else {
+        final String nodeId = item.path(SdkConstants.NOTICE_TYPE_DEFINITION_NODE_ID_KEY)
+            .asText(null);
+        if (nodeId != null) {
+          nodeIds.add(nodeId);
+        }
+        collectContent(item.get(SdkConstants.NOTICE_TYPE_DEFINITION_CONTENT_KEY), fieldIds,
+            nodeIds);
+      }
+    }
+  }
+}
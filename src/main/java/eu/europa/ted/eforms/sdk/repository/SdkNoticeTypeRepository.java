@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkEntityCreator;
 import eu.europa.ted.eforms.sdk.entity.SdkEntityFactory;
 import eu.europa.ted.eforms.sdk.entity.SdkNoticeSubtype;
 
@@ -21,8 +22,10 @@ public class SdkNoticeTypeRepository extends MapFromJson<SdkNoticeSubtype> {
   @Override
   protected void populateMap(final JsonNode json) throws InstantiationException {
     final ArrayNode noticeSubtypes = (ArrayNode) json.get(SdkConstants.NOTICE_TYPES_JSON_SUBTYPES_KEY);
+    final SdkEntityCreator<SdkNoticeSubtype> creator =
+        SdkEntityFactory.getSdkNoticeSubtypeCreator(sdkVersion);
     for (final JsonNode noticeSubtype : noticeSubtypes) {
-      final SdkNoticeSubtype sdkNoticeSubtype = SdkEntityFactory.getSdkNoticeSubtype(sdkVersion, noticeSubtype);
+      final SdkNoticeSubtype sdkNoticeSubtype = creator.create(noticeSubtype);
       put(sdkNoticeSubtype.getId(), sdkNoticeSubtype);
     }
   }
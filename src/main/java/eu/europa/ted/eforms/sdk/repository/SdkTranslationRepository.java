@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Repository for the labels found in the translations folder of the SDK.
+ *
+ * The folder contains one XML properties file per type of label and per language (e.g.
+ * field_en.xml, group_fr.xml). The files of a language are only read when a label in that language
+ * is first requested.
+ *
+ * Label keys (e.g. "field|name|BT-01-notice") are the same in all languages, so they are stored
+ * only once, in an index shared by all languages, which assigns an int ordinal to each key. For
+ * each language, the text of all its labels is concatenated in a single string, and the start and
+ * end of each label are stored in an int array indexed by key ordinal. A lookup is a hash lookup
+ * of the key followed by two array accesses. Instances are safe for concurrent use.
+ */
+public class SdkTranslationRepository {
+  private static final Logger logger = LoggerFactory.getLogger(SdkTranslationRepository.class);
+
+  /**
+   * Ordinal returned for unknown keys.
+   */
+  public static final int NONE = -1;
+
+  private static final Pattern FILENAME_PATTERN = Pattern.compile("^(.+)_([a-z]{2})\\.xml$");
+
+  private final String sdkVersion;
+
+  private final Map<String, List<Path>> filesByLanguage;
+
+  private final Map<String, Integer> keyOrdinals = new ConcurrentHashMap<>();
+  private final AtomicInteger nextKeyOrdinal = new AtomicInteger();
+
+  private final Map<String, LanguageTable> languages = new ConcurrentHashMap<>();
+
+  public SdkTranslationRepository(final String sdkVersion, final Path translationsDir) {
+    this.sdkVersion = Validate.notBlank(sdkVersion, "Undefined SDK version");
+    Validate.notNull(translationsDir, "Undefined translations directory");
+
+    Validate.isTrue(Files.isDirectory(translationsDir),
+        "Translations directory [%s] is not found or not a directory", translationsDir);
+
+    try (Stream<Path> files = Files.list(translationsDir)) {
+      final Map<String, List<Path>> result = new TreeMap<>();
+      files.sorted().forEach((Path file) -> {
+        final Matcher matcher = FILENAME_PATTERN.matcher(file.getFileName().toString());
+        if (matcher.matches()) {
+          result.computeIfAbsent(matcher.group(2), k -> new ArrayList<>()).add(file);
+        }
+      });
+      this.filesByLanguage = Collections.unmodifiableMap(result);
+    } catch (IOException e) {
+      throw new RuntimeException(
+          MessageFormat.format("Failed to list translations in [{0}]", translationsDir), e);
+    }
+  }
+
+  /**
+   * @return The two-letter codes of the languages for which the SDK has labels
+   */
+  public Set<String> getLanguages() {
+    return this.filesByLanguage.keySet();
+  }
+
+  /**
+   * @return The two-letter codes of the languages whose labels have already been read
+   */
+  public Set<String> getLoadedLanguages() {
+    return Collections.unmodifiableSet(this.languages.keySet());
+  }
+
+  /**
+   * @return The number of distinct keys found so far in the languages already read
+   */
+  public int getKeyCount() {
+    return this.keyOrdinals.size();
+  }
+
+  /**
+   * Returns the ordinal of a label key, so that labels of the same key can be looked up in several
+   * languages without hashing the key again.
+   * <p>
+   * Keys are indexed as languages are read, so a key is only known once a language containing it
+   * has been read.
+   *
+   * @param key The label key, e.g. "field|name|BT-01-notice"
+   * @return The ordinal of the key, or {@link #NONE}
+   */
+  public int getKeyOrdinal(final String key) {
+    final Integer ordinal = key == null ? null : this.keyOrdinals.get(key);
+    return ordinal == null ? NONE : ordinal;
+  }
+
+  /**
+   * @param key The label key, e.g. "field|name|BT-01-notice"
+   * @param language The two-letter code of the language, e.g. "en"
+   * @return The label, or null if there is no label with this key in this language
+   */
+  public String getLabel(final String key, final String language) {
+    final LanguageTable table = getLanguageTable(language);
+    return table == null ? null : table.get(getKeyOrdinal(key));
+  }
+
+  /**
+   * @param key The ordinal of the label key, as returned by {@link #getKeyOrdinal(String)}
+   * @param language The two-letter code of the language, e.g. "en"
+   * @return The label, or null if there is no label with this key in this language
+   */
+  public String getLabel(final int key, final String language) {
+    final LanguageTable table = getLanguageTable(language);
+    return table == null ? null : table.get(key);
+  }
+
+  /**
+   * @param key The label key, e.g. "field|name|BT-01-notice"
+   * @param language The two-letter code of the preferred language
+   * @param fallbackLanguage The two-letter code of the language used if there is no label in the
+   *        preferred language
+   * @return The label, or null if there is no label with this key in either language
+   */
+  public String getLabel(final String key, final String language, final String fallbackLanguage) {
+    final String result = getLabel(key, language);
+    return result != null ? result : getLabel(key, fallbackLanguage);
+  }
+
+  private LanguageTable getLanguageTable(final String language) {
+    Validate.notBlank(language, "Undefined language");
+
+    final List<Path> files = this.filesByLanguage.get(language);
+    if (files == null) {
+      return null;
+    }
+    return this.languages.computeIfAbsent(language, (String lang) -> loadLanguage(lang, files));
+  }
+
+  private LanguageTable loadLanguage(final String language, final List<Path> files) {
+    logger.debug("Loading [{}] translations for SDK version [{}] from {} files", language,
+        sdkVersion, files.size());
+
+    final Properties labels = new Properties();
+    for (Path file : files) {
+      try (InputStream input = Files.newInputStream(file)) {
+        labels.loadFromXML(input);
+      } catch (IOException e) {
+        throw new RuntimeException(
+            MessageFormat.format("Failed to load translations from [{0}]", file), e);
+      }
+    }
+
+    // Ordinals are assigned in key order, so that they do not depend on the order in which the
+    // languages are read when the key sets are the same.
+    final List<String> keys = labels.stringPropertyNames().stream()
+        .sorted()
+        .collect(Collectors.toList());
+
+    int maxOrdinal = NONE;
+    final int[] ordinals = new int[keys.size()];
+    for (int i = 0; i < keys.size(); i++) {
+      ordinals[i] = this.keyOrdinals.computeIfAbsent(keys.get(i),
+          k -> this.nextKeyOrdinal.getAndIncrement());
+      maxOrdinal = Math.max(maxOrdinal, ordinals[i]);
+    }
+
+    final StringBuilder text = new StringBuilder();
+    final int[] bounds = new int[(maxOrdinal + 1) * 2];
+    Arrays.fill(bounds, NONE);
+    for (int i = 0; i < keys.size(); i++) {
+      bounds[ordinals[i] * 2] = text.length();
+      text.append(labels.getProperty(keys.get(i)));
+      bounds[ordinals[i] * 2 + 1] = text.length();
+    }
+
+    logger.debug("Loaded {} [{}] labels for SDK version [{}]", keys.size(), language,
+        sdkVersion);
+
+    return new LanguageTable(text.toString(), bounds);
+  }
+
+  /**
+   * Labels of one language.
+   */
+  private static class LanguageTable {
+    /**
+     * The text of all labels, concatenated.
+     */
+    private final String text;
+
+    /**
+     * Start and end of the label of key {@code k} in {@link #text}, at {@code 2k} and
+     * {@code 2k + 1}; {@link SdkTranslationRepository#NONE} if the language has no such label.
+     */
+    private final int[] bounds;
+
+    private LanguageTable(final String text, final int[] bounds) {
+      this.text = text;
+      this.bounds = bounds;
+    }
+
+    private String get(final int key) {
+      if (key < 0 || key * 2 >= this.bounds.length || this.bounds[key * 2] == NONE) {
+        return null;
+      }
+      return this.text.substring(this.bounds[key * 2], this.bounds[key * 2 + 1]);
+    }
+  }
+}
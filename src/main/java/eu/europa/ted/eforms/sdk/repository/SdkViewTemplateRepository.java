@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkViewTemplate;
+
+/**
+ * Repository for the view templates listed in view-templates.json. Maps template IDs (e.g. "1",
+ * "16", "summary") to SdkViewTemplate objects.
+ *
+ * The EFX source of a template is only read from the view-templates folder when it is first
+ * requested, and then kept in memory. Each template also has a SHA-256 hash of the SDK version and
+ * of its source, which can be used as a key to cache the results of translating the template (e.g.
+ * on disk, across restarts). The SDK version is part of the hash, as the translation of the same
+ * source also depends on the fields and codelists of the SDK.
+ */
+public class SdkViewTemplateRepository extends MapFromJson<SdkViewTemplate> {
+  private static final long serialVersionUID = 1L;
+
+  private static final Logger logger = LoggerFactory.getLogger(SdkViewTemplateRepository.class);
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private transient Path viewTemplatesDir;
+
+  /**
+   * Source and hash of each template read so far. Not serialized, so templates are read again
+   * after deserialization.
+   */
+  private transient volatile Map<String, Pair<String, String>> contents;
+
+  public SdkViewTemplateRepository(String sdkVersion, Path jsonPath)
+      throws InstantiationException {
+    super(sdkVersion, jsonPath);
+    this.viewTemplatesDir = jsonPath.toAbsolutePath().getParent();
+  }
+
+  @Override
+  protected void populateMap(final JsonNode json) throws InstantiationException {
+    final JsonNode viewTemplates = json.get(SdkConstants.VIEW_TEMPLATES_JSON_VIEW_TEMPLATES_KEY);
+    if (viewTemplates == null) {
+      return;
+    }
+    for (final JsonNode viewTemplate : viewTemplates) {
+      final SdkViewTemplate sdkViewTemplate = new SdkViewTemplate(viewTemplate);
+      put(sdkViewTemplate.getId(), sdkViewTemplate);
+    }
+  }
+
+  /**
+   * @param templateId The ID of a view template
+   * @return The path of the file containing the template, or null if there is no such template
+   */
+  public Path getTemplatePath(final String templateId) {
+    final SdkViewTemplate template = get(templateId);
+    if (template == null || template.getFilename() == null) {
+      return null;
+    }
+    return getViewTemplatesDir().resolve(template.getFilename());
+  }
+
+  /**
+   * @param templateId The ID of a view template
+   * @return The EFX source of the template, or null if there is no such template
+   */
+  public String getSource(final String templateId) {
+    final Pair<String, String> result = getContents(templateId);
+    return result == null ? null : result.getLeft();
+  }
+
+  /**
+   * @param templateId The ID of a view template
+   * @return The SHA-256 hash of the SDK version and of the source of the template, as 64 lowercase
+   *         hexadecimal digits, or null if there is no such template
+   */
+  public String getHash(final String templateId) {
+    final Pair<String, String> result = getContents(templateId);
+    return result == null ? null : result.getRight();
+  }
+
+  private Pair<String, String> getContents(final String templateId) {
+    final Path templatePath = getTemplatePath(templateId);
+    if (templatePath == null) {
+      return null;
+    }
+    return getContentsCache().computeIfAbsent(templateId, id -> readContents(id, templatePath));
+  }
+
+  private Pair<String, String> readContents(final String templateId, final Path templatePath) {
+    logger.debug("Loading view template [{}] for SDK version [{}] from [{}]", templateId,
+        sdkVersion, templatePath);
+
+    final byte[] bytes;
+    try {
+      bytes = Files.readAllBytes(templatePath);
+    } catch (IOException e) {
+      throw new RuntimeException(MessageFormat.format(
+          "Failed to load view template [{0}] from [{1}]", templateId, templatePath), e);
+    }
+
+    return Pair.of(new String(bytes, StandardCharsets.UTF_8), sha256(sdkVersion, bytes));
+  }
+
+  private static String sha256(final String sdkVersion, final byte[] bytes) {
+    final byte[] digest;
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      messageDigest.update(sdkVersion.getBytes(StandardCharsets.UTF_8));
+      // Separates the version from the source
+      messageDigest.update((byte) 0);
+      digest = messageDigest.digest(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256.
+      throw new IllegalStateException(e);
+    }
+
+    final char[] result = new char[digest.length * 2];
+    for (int i = 0; i < digest.length; i++) {
+      result[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xf];
+      result[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xf];
+    }
+    return new String(result);
+  }
+
+  private Path getViewTemplatesDir() {
+    if (this.viewTemplatesDir == null) {
+      throw new IllegalStateException(
+          "The location of the view templates is not known after deserialization");
+    }
+    return this.viewTemplatesDir;
+  }
+
+  private Map<String, Pair<String, String>> getContentsCache() {
+    Map<String, Pair<String, String>> result = this.contents;
+    if (result == null) {
+      synchronized (this) {
+        result = this.contents;
+        if (result == null) {
+          result = new ConcurrentHashMap<>();
+          this.contents = result;
+        }
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the resources of an SDK directly in its archive (the eforms-sdk jar), without
+ * unpacking it.
+ * <p>
+ * The archive is opened as a zip {@link FileSystem} for the lifetime of the resolver, and closed
+ * with it.
+ */
+public class ArchiveSdkResourceResolver implements SdkResourceResolver {
+  private static final Logger logger = LoggerFactory.getLogger(ArchiveSdkResourceResolver.class);
+
+  /**
+   * The folder of the SDK archive containing the SDK resources.
+   */
+  static final String SDK_ARCHIVE_ROOT = "eforms-sdk";
+
+  private final Path archive;
+  private final FileSystem fileSystem;
+  private final Path sdkRoot;
+
+  /**
+   * @param archive The SDK archive, e.g. as returned by {@link SdkDownloader#resolveSdkArchive}
+   * @throws IOException If the archive cannot be opened or does not contain an SDK
+   */
+  public ArchiveSdkResourceResolver(final Path archive) throws IOException {
+    Validate.notNull(archive, "Undefined SDK archive");
+    Validate.isTrue(Files.isRegularFile(archive), "[%s] is not a file.", archive);
+
+    this.archive = archive;
+
+    logger.debug("Opening SDK archive [{}]", archive);
+    this.fileSystem = FileSystems.newFileSystem(archive, (ClassLoader) null);
+    this.sdkRoot = fileSystem.getPath("/", SDK_ARCHIVE_ROOT);
+
+    if (!Files.isDirectory(sdkRoot)) {
+      fileSystem.close();
+      throw new IOException(MessageFormat.format("[{0}] does not contain an eForms SDK", archive));
+    }
+  }
+
+  public Path getArchive() {
+    return archive;
+  }
+
+  @Override
+  public Path getSdkRoot() {
+    return sdkRoot;
+  }
+
+  @Override
+  public void close() throws IOException {
+    fileSystem.close();
+  }
+
+  @Override
+  public String toString() {
+    return archive + "!/" + SDK_ARCHIVE_ROOT;
+  }
+}
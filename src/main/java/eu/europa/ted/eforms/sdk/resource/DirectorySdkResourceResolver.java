@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import org.apache.commons.lang3.Validate;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.SdkVersion;
+
+/**
+ * Resolves the resources of an SDK unpacked in a directory, e.g. by {@link SdkDownloader}.
+ */
+public class DirectorySdkResourceResolver implements SdkResourceResolver {
+  private final Path sdkRoot;
+
+  /**
+   * @param sdkRoot The directory containing the SDK resources ("fields", "codelists" etc.)
+   */
+  public DirectorySdkResourceResolver(final Path sdkRoot) {
+    Validate.notNull(sdkRoot, "Undefined SDK directory");
+    this.sdkRoot = sdkRoot.toAbsolutePath();
+  }
+
+  /**
+   * Uses the directory of the given SDK version under the given SDK root directory, with the same
+   * layout as {@link SdkResourceLoader} and {@link SdkDownloader}.
+   *
+   * @param sdkVersion The SDK version
+   * @param sdkRootPath The root SDK folder, or null for {@link SdkConstants#DEFAULT_SDK_ROOT}
+   */
+  public DirectorySdkResourceResolver(final SdkVersion sdkVersion, final Path sdkRootPath) {
+    this(getSdkDir(sdkVersion, sdkRootPath));
+  }
+
+  static Path getSdkDir(final SdkVersion sdkVersion, final Path sdkRootPath) {
+    Validate.notNull(sdkVersion, "Undefined SDK version");
+
+    final String sdkDir =
+        sdkVersion.isPatch() ? sdkVersion.toString() : sdkVersion.toStringWithoutPatch();
+
+    return Path.of(
+        Objects.requireNonNullElse(sdkRootPath, SdkConstants.DEFAULT_SDK_ROOT).toString(), sdkDir);
+  }
+
+  @Override
+  public Path getSdkRoot() {
+    return sdkRoot;
+  }
+
+  @Override
+  public String toString() {
+    return Files.isDirectory(sdkRoot) ? sdkRoot.toString() : sdkRoot + " (missing)";
+  }
+}
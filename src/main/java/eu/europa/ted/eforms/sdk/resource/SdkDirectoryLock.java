@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import eu.europa.ted.util.ArchiveUtils;
+
+/**
+ * Exclusive lock on an SDK directory, held while it is downloaded, across threads and across
+ * processes sharing the SDK root directory. As the unpacked directory replaces the previous one
+ * with two renames (see {@link ArchiveUtils#unzipIncremental(java.io.File, Path)}), code that
+ * reads the directory while it may be replaced must hold the lock too.
+ * <p>
+ * The lock is a file next to the SDK directory, locked with {@link FileChannel#lock()}. As file
+ * locks are held on behalf of the whole JVM, threads of the same JVM are serialized with a
+ * {@link ReentrantLock} before the file is locked. Lock files are left in place, as deleting them
+ * would let another process lock a file that is no longer the one others are waiting on.
+ */
+final class SdkDirectoryLock implements Closeable {
+  private static final Logger logger = LoggerFactory.getLogger(SdkDirectoryLock.class);
+
+  private static final Map<Path, ReentrantLock> LOCAL_LOCKS = new ConcurrentHashMap<>();
+
+  private final Path lockFile;
+  private final ReentrantLock localLock;
+  private final FileChannel channel;
+
+  private SdkDirectoryLock(final Path lockFile, final ReentrantLock localLock,
+      final FileChannel channel) {
+    this.lockFile = lockFile;
+    this.localLock = localLock;
+    this.channel = channel;
+  }
+
+  /**
+   * Waits until the given SDK directory is not locked by another thread or process, and locks it.
+   *
+   * @param sdkDir The SDK directory, which does not need to exist yet
+   * @return The lock, to be closed once the directory is ready
+   * @throws IOException If the lock file cannot be created or locked
+   */
+  static SdkDirectoryLock lock(final Path sdkDir) throws IOException {
+    Validate.notNull(sdkDir, "Undefined SDK directory");
+
+    final Path absoluteDir = sdkDir.toAbsolutePath().normalize();
+    final Path lockFile = absoluteDir.resolveSibling("." + absoluteDir.getFileName() + ".lock");
+
+    final ReentrantLock localLock =
+        LOCAL_LOCKS.computeIfAbsent(lockFile, (Path p) -> new ReentrantLock());
+    Validate.validState(!localLock.isHeldByCurrentThread(), "[%s] is already locked by this thread",
+        absoluteDir);
+
+    logger.trace("Waiting for lock [{}]", lockFile);
+    localLock.lock();
+
+    FileChannel channel = null;
+    try {
+      Files.createDirectories(lockFile.getParent());
+      channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      channel.lock();
+
+      logger.trace("Acquired lock [{}]", lockFile);
+      return new SdkDirectoryLock(lockFile, localLock, channel);
+    } catch (IOException | RuntimeException e) {
+      if (channel != null) {
+        channel.close();
+      }
+      localLock.unlock();
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      // Closing the channel releases the file lock
+      channel.close();
+      logger.trace("Released lock [{}]", lockFile);
+    } finally {
+      localLock.unlock();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Optional;
+import eu.europa.ted.eforms.sdk.SdkVersion;
+
+/**
+ * The outcome of downloading one SDK version with
+ * {@link SdkDownloader#downloadSdks(java.util.Collection, Path, java.util.concurrent.Executor)}.
+ */
+public class SdkDownloadResult {
+  public enum Status {
+    /** The SDK was downloaded and unpacked. */
+    DOWNLOADED,
+    /** The SDK directory already contained the resolved version. */
+    UP_TO_DATE,
+    /** The version could not be resolved, downloaded or unpacked. See {@link #getError()}. */
+    FAILED
+  }
+
+  private final SdkVersion requestedVersion;
+  private final SdkVersion resolvedVersion;
+  private final Path sdkDir;
+  private final Status status;
+  private final Exception error;
+  private final Duration duration;
+
+  SdkDownloadResult(final SdkVersion requestedVersion, final SdkVersion resolvedVersion,
+      final Path sdkDir, final Status status, final Exception error, final Duration duration) {
+    this.requestedVersion = requestedVersion;
+    this.resolvedVersion = resolvedVersion;
+    this.sdkDir = sdkDir;
+    this.status = status;
+    this.error = error;
+    this.duration = duration;
+  }
+
+  static SdkDownloadResult failed(final SdkVersion requestedVersion, final Path sdkDir,
+      final Exception error, final Duration duration) {
+    return new SdkDownloadResult(requestedVersion, null, sdkDir, Status.FAILED, error, duration);
+  }
+
+  SdkDownloadResult withDuration(final Duration duration) {
+    return new SdkDownloadResult(requestedVersion, resolvedVersion, sdkDir, status, error,
+        duration);
+  }
+
+  /**
+   * @return The version as it was requested (e.g. 1.0)
+   */
+  public SdkVersion getRequestedVersion() {
+    return requestedVersion;
+  }
+
+  /**
+   * @return The version of the artifact that was found for the requested version (e.g. 1.0.2), or
+   *         empty if the resolution failed
+   */
+  public Optional<SdkVersion> getResolvedVersion() {
+    return Optional.ofNullable(resolvedVersion);
+  }
+
+  /**
+   * @return The directory the SDK is (or should have been) unpacked into
+   */
+  public Path getSdkDir() {
+    return sdkDir;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public boolean isSuccessful() {
+    return status != Status.FAILED;
+  }
+
+  /**
+   * @return The reason of the failure, or empty if the status is not {@link Status#FAILED}
+   */
+  public Optional<Exception> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /**
+   * @return The time spent on this version, including the version range resolution
+   */
+  public Duration getDuration() {
+    return duration;
+  }
+
+  @Override
+  public String toString() {
+    return MessageFormat.format("SDK {0} -> {1}: {2} in {3} ms{4}", requestedVersion,
+        resolvedVersion, status, String.valueOf(duration.toMillis()),
+        error == null ? "" : " (" + error.getMessage() + ")");
+  }
+}
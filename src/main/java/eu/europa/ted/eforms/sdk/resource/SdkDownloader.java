@@ -3,10 +3,20 @@ package eu.europa.ted.eforms.sdk.resource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import org.apache.commons.collections.CollectionUtils;
@@ -16,9 +26,10 @@ import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
-import org.eclipse.aether.version.Version;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
 import eu.europa.ted.eforms.sdk.SdkConstants;
 import eu.europa.ted.eforms.sdk.SdkVersion;
 import eu.europa.ted.maven.MavenUtils;
@@ -28,6 +39,8 @@ import eu.europa.ted.util.ArchiveUtils;
 public class SdkDownloader {
   private static final Logger logger = LoggerFactory.getLogger(SdkDownloader.class);
 
+  private static final int DEFAULT_PARALLEL_DOWNLOADS = 4;
+
   private SdkDownloader() {
   }
 
@@ -38,6 +51,13 @@ public class SdkDownloader {
    * If the given version is not specific enough (e.g. 1.0), its latest
    * patch version will be downloaded.
    *
+   * The SDK directory is unpacked while holding an exclusive lock on it, shared
+   * with other threads and processes downloading into the same root directory.
+   * Replacing an existing SDK directory is not atomic: it briefly does not exist.
+   * A download that does not find the SDK waits for the lock, so the directory is
+   * complete when this method returns, but readers must not use an SDK directory
+   * while another download may be replacing it (e.g. with a newer patch version).
+   *
    * @param sdkVersion       The SDK version to download.
    * @param rootDir          The root directory where the SDK will be downloaded
    * @param includeSnapshots If true, the latest snapshot version will be
@@ -46,27 +66,194 @@ public class SdkDownloader {
    */
   public static void downloadSdk(final SdkVersion sdkVersion, final Path rootDir, boolean includeSnapshots)
       throws IOException {
-    Path sdkDir = Path.of(Optional.ofNullable(rootDir).orElse(SdkConstants.DEFAULT_SDK_ROOT).toString(),
-        sdkVersion.isPatch() ? sdkVersion.toString() : sdkVersion.toStringWithoutPatch());
+    download(sdkVersion, rootDir, includeSnapshots);
+  }
+
+  /**
+   * Downloads several SDK versions concurrently, each one as
+   * {@link #downloadSdk(SdkVersion, Path, boolean)} would.
+   * <p>
+   * All downloads go through the same Maven repository session. Duplicate versions are downloaded
+   * only once. A failure to download one version does not prevent the others from being
+   * downloaded: it is reported in the result of that version.
+   *
+   * @param sdkVersions      The SDK versions to download
+   * @param rootDir          The root directory where the SDKs will be downloaded
+   * @param includeSnapshots If true, the latest snapshot version will be downloaded if a given
+   *                         version is not found
+   * @param executor         The executor running the downloads; its number of threads bounds
+   *                         the number of concurrent downloads
+   * @return The result of each requested version, in the order of the given collection
+   */
+  public static Map<SdkVersion, SdkDownloadResult> downloadSdks(
+      final Collection<SdkVersion> sdkVersions, final Path rootDir, final boolean includeSnapshots,
+      final Executor executor) {
+    Validate.notNull(sdkVersions, "Undefined SDK versions");
+    Validate.notNull(executor, "Undefined executor");
+
+    final Map<SdkVersion, CompletableFuture<SdkDownloadResult>> futures = new LinkedHashMap<>();
+    for (SdkVersion sdkVersion : new LinkedHashSet<>(sdkVersions)) {
+      Validate.notNull(sdkVersion, "Undefined SDK version");
+      futures.put(sdkVersion, CompletableFuture.supplyAsync(
+          () -> downloadAndReport(sdkVersion, rootDir, includeSnapshots),
+          executor));
+    }
+
+    final Map<SdkVersion, SdkDownloadResult> results = new LinkedHashMap<>();
+    futures.forEach((sdkVersion, future) -> results.put(sdkVersion, future.join()));
+    return results;
+  }
+
+  /**
+   * Overload of {@link #downloadSdks(Collection, Path, boolean, Executor)} that excludes snapshot
+   * versions.
+   */
+  public static Map<SdkVersion, SdkDownloadResult> downloadSdks(
+      final Collection<SdkVersion> sdkVersions, final Path rootDir, final Executor executor) {
+    return downloadSdks(sdkVersions, rootDir, false, executor);
+  }
+
+  /**
+   * Overload of {@link #downloadSdks(Collection, Path, boolean, Executor)} that excludes snapshot
+   * versions and runs at most {@value #DEFAULT_PARALLEL_DOWNLOADS} downloads at a time.
+   */
+  public static Map<SdkVersion, SdkDownloadResult> downloadSdks(
+      final Collection<SdkVersion> sdkVersions, final Path rootDir) {
+    Validate.notNull(sdkVersions, "Undefined SDK versions");
+
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, Math.min(DEFAULT_PARALLEL_DOWNLOADS, sdkVersions.size())));
+    try {
+      return downloadSdks(sdkVersions, rootDir, false, executor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static SdkDownloadResult downloadAndReport(final SdkVersion sdkVersion,
+      final Path rootDir, final boolean includeSnapshots) {
+    final long start = System.nanoTime();
+    try {
+      return download(sdkVersion, rootDir, includeSnapshots)
+          .withDuration(Duration.ofNanos(System.nanoTime() - start));
+    } catch (Exception e) {
+      logger.warn("Failed to download eForms SDK with base version {}: {}", sdkVersion,
+          e.getMessage());
+      return SdkDownloadResult.failed(sdkVersion, getSdkDir(sdkVersion, rootDir), e,
+          Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  private static Path getRootDir(final Path rootDir) {
+    return Optional.ofNullable(rootDir).orElse(SdkConstants.DEFAULT_SDK_ROOT);
+  }
+
+  private static Path getSdkDir(final SdkVersion sdkVersion, final Path rootDir) {
+    return DirectorySdkResourceResolver.getSdkDir(sdkVersion, getRootDir(rootDir));
+  }
+
+  /**
+   * Resolves the archive of an SDK version from Maven Central (or local Maven repository),
+   * without unpacking it. The result can be read with {@link ArchiveSdkResourceResolver}.
+   * <p>
+   * If the given version is not specific enough (e.g. 1.0), the archive of its latest patch
+   * version is returned.
+   *
+   * @param sdkVersion The SDK version to resolve
+   * @param rootDir The SDK root directory, where resolved version ranges are cached
+   * @param includeSnapshots If true, the latest snapshot version will be resolved if the given
+   *        version is not found
+   * @return The path of the SDK archive in the local Maven repository
+   * @throws IOException If the archive cannot be resolved
+   */
+  public static Path resolveSdkArchive(final SdkVersion sdkVersion, final Path rootDir,
+      boolean includeSnapshots) throws IOException {
+    try {
+      final SdkVersion artifactVersion =
+          getLatestSdkVersion(sdkVersion, getRootDir(rootDir), includeSnapshots);
+
+      return MavenUtils.resolve(getArtifactCoords(artifactVersion)).toPath();
+    } catch (VersionRangeResolutionException | ArtifactResolutionException e) {
+      logger.debug("Failed to resolve eForms SDK archive with base version {}: {}", sdkVersion,
+          e.getMessage());
+      throw new IOException(e);
+    }
+  }
 
+  private static String getArtifactCoords(final SdkVersion artifactVersion) {
+    return MessageFormat.format("{0}:{1}:jar:{2}", SdkConstants.SDK_GROUP_ID,
+        SdkConstants.SDK_ARTIFACT_ID, artifactVersion);
+  }
+
+  private static SdkDownloadResult download(final SdkVersion sdkVersion, final Path rootDir,
+      boolean includeSnapshots) throws IOException {
+    final long start = Metrics.startTimer();
+    String status = SdkDownloadResult.Status.FAILED.name();
     try {
-      SdkVersion artifactVersion = getLatestSdkVersion(sdkVersion, includeSnapshots);
+      final SdkDownloadResult result = resolveAndDownload(sdkVersion, rootDir, includeSnapshots);
+      status = result.getStatus().name();
+      return result;
+    } finally {
+      Metrics.recordTime(MetricNames.SDK_DOWNLOAD, start, MetricNames.TAG_SDK_VERSION,
+          sdkVersion.toString(), MetricNames.TAG_STATUS, status);
+    }
+  }
+
+  private static SdkDownloadResult resolveAndDownload(final SdkVersion sdkVersion,
+      final Path rootDir, boolean includeSnapshots) throws IOException {
+    final Path sdkDir = getSdkDir(sdkVersion, rootDir);
+
+    if (SdkVersionRangeCache.isOffline()) {
+      Optional<SdkVersion> localVersion = readVersionFile(sdkDir);
+      // An exact patch version must match; otherwise any patch of the minor version will do
+      if (localVersion.isPresent()
+          && (!sdkVersion.isPatch() || localVersion.get().equals(sdkVersion))) {
+        logger.debug("Offline mode: using SDK [{}] found at [{}].", localVersion.get(), sdkDir);
+        return new SdkDownloadResult(sdkVersion, localVersion.get(), sdkDir,
+            SdkDownloadResult.Status.UP_TO_DATE, null, Duration.ZERO);
+      }
+      if (localVersion.isPresent()) {
+        logger.warn("Offline mode: SDK [{}] found at [{}] instead of the requested SDK [{}].",
+            localVersion.get(), sdkDir, sdkVersion);
+      }
+    }
+
+    try {
+      SdkVersion artifactVersion =
+          getLatestSdkVersion(sdkVersion, getRootDir(rootDir), includeSnapshots);
 
       if (sdkExistsAt(artifactVersion, sdkDir)) {
         logger.debug("SDK [{}] found at [{}]. No download required.", artifactVersion, sdkDir);
-      } else {
+        return new SdkDownloadResult(sdkVersion, artifactVersion, sdkDir,
+            SdkDownloadResult.Status.UP_TO_DATE, null, Duration.ZERO);
+      }
+
+      // Other threads or processes sharing the SDK root may be downloading the same SDK
+      try (SdkDirectoryLock lock = SdkDirectoryLock.lock(sdkDir)) {
+        if (sdkExistsAt(artifactVersion, sdkDir)) {
+          logger.debug("SDK [{}] was downloaded at [{}] while waiting. No download required.",
+              artifactVersion, sdkDir);
+          return new SdkDownloadResult(sdkVersion, artifactVersion, sdkDir,
+              SdkDownloadResult.Status.UP_TO_DATE, null, Duration.ZERO);
+        }
+
         logger.info("Downloading eForms SDK version [{}]", artifactVersion);
         logger.debug("Target directory: {}", sdkDir.toAbsolutePath());
 
-        String artifactCoords = MessageFormat.format("{0}:{1}:jar:{2}", SdkConstants.SDK_GROUP_ID,
-            SdkConstants.SDK_ARTIFACT_ID, artifactVersion);
-        ArchiveUtils.unzip(MavenUtils.resolve(artifactCoords), sdkDir);
+        ArchiveUtils.unzipIncremental(MavenUtils.resolve(getArtifactCoords(artifactVersion)),
+            sdkDir);
 
         logger.debug("Successfully downloaded eForms SDK [{}] onto [{}].", artifactVersion,
             sdkDir.toAbsolutePath());
 
         createVersionFile(artifactVersion, sdkDir);
       }
+
+      // Files of the previous SDK directory may still be cached
+      SdkResourceCache.getDefault().invalidate(sdkDir);
+
+      return new SdkDownloadResult(sdkVersion, artifactVersion, sdkDir,
+          SdkDownloadResult.Status.DOWNLOADED, null, Duration.ZERO);
     } catch (IOException e) {
       logger.debug("Failed to download eForms SDK with base version {}: {}", sdkVersion,
           e.getMessage());
@@ -159,23 +346,31 @@ public class SdkDownloader {
    */
   public static void downloadSdk(final String sdkVersion, final Path rootDir, boolean includeSnapshots)
       throws IOException {
-    downloadSdk(new SdkVersion(sdkVersion), rootDir, includeSnapshots);
+    downloadSdk(SdkVersion.of(sdkVersion), rootDir, includeSnapshots);
   }
 
+  /**
+   * Writes the VERSION file, which marks the SDK directory as complete. The file is written next
+   * to its target and moved in place, so that it is never seen partially written.
+   */
   private static Path createVersionFile(final SdkVersion sdkVersion, final Path sdkDir)
       throws IOException {
     Path versionFilePath = Path.of(sdkDir.toString(), "VERSION");
 
-    if (!Files.exists(versionFilePath)) {
-      logger.debug("Creating version file [{}] for SDK [{}]", versionFilePath, sdkVersion);
-
-      Files.createFile(versionFilePath);
-      Files.writeString(versionFilePath, sdkVersion.toString());
+    logger.debug("Creating version file [{}] for SDK [{}]", versionFilePath, sdkVersion);
 
-      logger.debug("Successfully created version file [{}] for SDK [{}]", versionFilePath,
-          sdkVersion);
+    Path tempFile = Files.createTempFile(sdkDir, ".VERSION", ".tmp");
+    try {
+      Files.writeString(tempFile, sdkVersion.toString());
+      Files.move(tempFile, versionFilePath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
     }
 
+    logger.debug("Successfully created version file [{}] for SDK [{}]", versionFilePath,
+        sdkVersion);
+
     return versionFilePath;
   }
 
@@ -191,6 +386,14 @@ public class SdkDownloader {
     }
   }
 
+  private static Optional<SdkVersion> readVersionFile(final Path sdkDir) {
+    try {
+      return Optional.of(SdkVersion.of(Files.readString(Path.of(sdkDir.toString(), "VERSION"))));
+    } catch (Exception e) {
+      return Optional.empty();
+    }
+  }
+
   /**
    * Discovers the latest available version for a given base version. 
    * 
@@ -199,12 +402,13 @@ public class SdkDownloader {
    *                         1.0.0-SNAPSHOT)
    * @return The latest available version.
    */
-  private static SdkVersion getLatestSdkVersion(final SdkVersion baseVersion, final boolean includeSnapshots)
-      throws VersionRangeResolutionException {
+  private static SdkVersion getLatestSdkVersion(final SdkVersion baseVersion, final Path rootDir,
+      final boolean includeSnapshots) throws VersionRangeResolutionException, IOException {
     Validate.notNull(baseVersion, "Undefined base version");
 
     try {
-      return getHighestVersion(resolveVersionRange(getSearchPattern(baseVersion)), includeSnapshots);
+      return getHighestVersion(getVersionsInRange(getSearchPattern(baseVersion), rootDir),
+          includeSnapshots);
     } catch (NoSuchElementException e1) {
       throw new IllegalArgumentException(
           MessageFormat.format("No artifacts found for SDK {0}.", baseVersion));
@@ -224,6 +428,50 @@ public class SdkDownloader {
     return MessageFormat.format("[{0}.*]", sdkVersion.toString());
   }
 
+  /**
+   * Gets the versions matching a search pattern, from the version cache of the SDK root directory
+   * if it has an entry younger than the configured TTL, or else from the Maven repositories.
+   * <p>
+   * In offline mode, cached entries are used regardless of their age, and the Maven repositories
+   * are never queried.
+   *
+   * @param searchPattern The search pattern to resolve.
+   * @param rootDir The SDK root directory.
+   * @return The versions found, in ascending order.
+   * @throws IOException If offline mode is enabled and the search pattern is not in the cache.
+   */
+  private static List<String> getVersionsInRange(final String searchPattern, final Path rootDir)
+      throws VersionRangeResolutionException, IOException {
+    final SdkVersionRangeCache cache = SdkVersionRangeCache.forRootDir(rootDir);
+    final boolean offline = SdkVersionRangeCache.isOffline();
+    final Duration ttl = SdkVersionRangeCache.getTtl();
+
+    if (offline || !ttl.isZero()) {
+      Optional<List<String>> cached = cache.get(searchPattern, offline ? null : ttl);
+      if (cached.isPresent()) {
+        return cached.get();
+      }
+    }
+
+    if (offline) {
+      throw new IOException(MessageFormat.format(
+          "Offline mode: no matching local SDK and no cached versions found for {0}",
+          searchPattern));
+    }
+
+    final List<String> versions = resolveVersionRange(searchPattern).getVersions().stream()
+        .map(Object::toString)
+        .collect(Collectors.toList());
+
+    // Recorded even without a TTL, for offline mode. Empty results are not cached, so that a new
+    // release is found as soon as it is published.
+    if (!versions.isEmpty()) {
+      cache.put(searchPattern, versions);
+    }
+
+    return versions;
+  }
+
   /**
    * Uses Maven to resolve a version range from a given search pattern.
    * 
@@ -242,14 +490,12 @@ public class SdkDownloader {
    * Gets the highest version from a version range.
    * A pre-release version will be returned only if there is no released version in the range.
    * 
-   * @param versionRange The version range to search.
+   * @param rangeVersions The versions in the range, in ascending order.
    * @param includeSnapshots Whether to include SNAPSHOT versions.
    * @return The highest version found.
    * @throws NoSuchElementException If the version range is empty.
    */
-  private static SdkVersion getHighestVersion(VersionRangeResult versionRange, boolean includeSnapshots) throws NoSuchElementException {
-  
-    List<Version> rangeVersions = versionRange.getVersions();
+  private static SdkVersion getHighestVersion(List<String> rangeVersions, boolean includeSnapshots) throws NoSuchElementException {
 
     if (CollectionUtils.isEmpty(rangeVersions)) {
       throw new NoSuchElementException();
@@ -258,8 +504,7 @@ public class SdkDownloader {
     // Get all the versions in the range into a list of SdkVersion objects.
     // Exclude snapshots if requested.
     List<SdkVersion> allVersions = rangeVersions.stream()
-        .map(Object::toString)
-        .map(SdkVersion::new)
+        .map(SdkVersion::of)
         .filter(v -> includeSnapshots || !v.isSnapshot())
         .collect(Collectors.toList());
 
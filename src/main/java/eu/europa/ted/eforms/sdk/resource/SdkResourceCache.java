@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import eu.europa.ted.eforms.sdk.SdkVersion;
+
+/**
+ * Keeps the contents of SDK files in memory, so that files read by several components (e.g.
+ * fields.json) are only read once.
+ * <p>
+ * Files on the default file system are memory-mapped; files in other file systems (e.g. in an SDK
+ * archive, see {@link ArchiveSdkResourceResolver}) are read onto the heap. The contents are
+ * handed out as read-only {@link ByteBuffer} views, which can be used concurrently.
+ * <p>
+ * The total size of the cached files is limited; the least recently used files are evicted when a
+ * new file would exceed the limit. A file larger than the limit is not cached.
+ * <p>
+ * The cache assumes that SDK files do not change once read. {@link SdkDownloader} replaces SDK
+ * directories as a whole and invalidates the {@link #getDefault() default cache} when it does,
+ * but files replaced by other processes sharing the SDK root directory are not noticed, and must
+ * be {@link #invalidate(Path) invalidated}. On Windows, a memory-mapped file cannot be deleted or
+ * renamed until its mapping is garbage collected, which prevents SDK directories from being
+ * replaced.
+ * <p>
+ * The repositories therefore only read SDK files through the default cache when the
+ * {@value #ENABLED_PROPERTY} system property is set to true (see
+ * {@link #newInputStream(Path)}); otherwise each load reads the file directly.
+ */
+public class SdkResourceCache {
+  private static final Logger logger = LoggerFactory.getLogger(SdkResourceCache.class);
+
+  /**
+   * Default maximum total size of the cached files, in bytes.
+   */
+  public static final long DEFAULT_MAX_SIZE = 128L * 1024 * 1024;
+
+  /**
+   * System property that makes the repositories read SDK files through the
+   * {@link #getDefault() default cache} when set to true.
+   */
+  public static final String ENABLED_PROPERTY = "eforms.sdk.resources.cache";
+
+  private static final SdkResourceCache DEFAULT = new SdkResourceCache();
+
+  private final long maxSize;
+
+  /**
+   * Contents by absolute, normalized path, from the least to the most recently used. Guarded by
+   * itself.
+   */
+  private final Map<Path, ByteBuffer> contents = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Resolved paths by SDK version, resource type, filename and SDK root, so that repeated
+   * requests for the same resource do not hit the file system at all.
+   */
+  private final Map<List<Object>, Path> resolvedPaths = new ConcurrentHashMap<>();
+
+  /**
+   * Total size of the cached files, in bytes. Guarded by {@link #contents}.
+   */
+  private long size = 0;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public SdkResourceCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * @param maxSize The maximum total size of the cached files, in bytes
+   */
+  public SdkResourceCache(final long maxSize) {
+    Validate.isTrue(maxSize > 0, "The maximum size must be positive: %d", maxSize);
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return The cache shared by the application
+   */
+  public static SdkResourceCache getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * @return True if the repositories read SDK files through the default cache
+   */
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY));
+  }
+
+  /**
+   * Opens a file through the {@link #getDefault() default cache} when it is
+   * {@link #isEnabled() enabled}, or directly otherwise.
+   *
+   * @param path The file's path
+   * @return A stream over the contents of the file
+   * @throws IOException If the file cannot be read
+   */
+  public static InputStream newInputStream(final Path path) throws IOException {
+    return isEnabled() ? DEFAULT.getAsStream(path) : Files.newInputStream(path);
+  }
+
+  /**
+   * Returns the contents of a file.
+   *
+   * @param path The file's path
+   * @return A read-only view of the file's contents, positioned at its start
+   * @throws IOException If the file cannot be read
+   */
+  public ByteBuffer get(final Path path) throws IOException {
+    Validate.notNull(path, "Undefined path");
+
+    final Path key = path.toAbsolutePath().normalize();
+
+    ByteBuffer result;
+    synchronized (contents) {
+      result = contents.get(key);
+    }
+    if (result != null) {
+      hits.increment();
+      return result.duplicate();
+    }
+
+    misses.increment();
+
+    // Read outside of the lock, so that other files can be served in the meantime. If another
+    // thread loads the same file concurrently, the first one stored wins.
+    final ByteBuffer loaded = load(key);
+    if (loaded.capacity() > maxSize) {
+      logger.debug("Not caching [{}] ({} bytes), larger than the cache", key, loaded.capacity());
+      return loaded.duplicate();
+    }
+
+    synchronized (contents) {
+      result = contents.putIfAbsent(key, loaded);
+      if (result == null) {
+        result = loaded;
+        size += loaded.capacity();
+        evict();
+      }
+    }
+
+    return result.duplicate();
+  }
+
+  /**
+   * Returns the contents of a resource of the given SDK version, as located by
+   * {@link SdkResourceLoader#getResourceAsPath(SdkVersion, PathResource, String, Path)}.
+   *
+   * @param sdkVersion The target SDK version
+   * @param resourceType The resource type
+   * @param filename The target filename, or null for the resource itself
+   * @param sdkRootPath Path of the root SDK folder
+   * @return A read-only view of the resource's contents, positioned at its start
+   * @throws IOException If the resource cannot be read
+   */
+  public ByteBuffer get(final SdkVersion sdkVersion, final PathResource resourceType,
+      final String filename, final Path sdkRootPath) throws IOException {
+    final List<Object> key = Arrays.asList(sdkVersion, resourceType, filename, sdkRootPath);
+
+    Path path = resolvedPaths.get(key);
+    if (path == null) {
+      path = SdkResourceLoader.getResourceAsPath(sdkVersion, resourceType, filename, sdkRootPath);
+      resolvedPaths.put(key, path);
+    }
+
+    return get(path);
+  }
+
+  /**
+   * @param path The file's path
+   * @return A stream over the cached contents of the file
+   * @throws IOException If the file cannot be read
+   */
+  public InputStream getAsStream(final Path path) throws IOException {
+    return new ByteBufferInputStream(get(path));
+  }
+
+  /**
+   * Removes a file, or all the files under a directory, from the cache.
+   *
+   * @param path The path of a file or directory
+   */
+  public void invalidate(final Path path) {
+    Validate.notNull(path, "Undefined path");
+
+    final Path prefix = path.toAbsolutePath().normalize();
+
+    synchronized (contents) {
+      final Iterator<Map.Entry<Path, ByteBuffer>> iterator = contents.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<Path, ByteBuffer> entry = iterator.next();
+        if (entry.getKey().startsWith(prefix)) {
+          size -= entry.getValue().capacity();
+          iterator.remove();
+        }
+      }
+    }
+    resolvedPaths.values().removeIf(p -> p.toAbsolutePath().normalize().startsWith(prefix));
+  }
+
+  /**
+   * Removes all files from the cache.
+   */
+  public void clear() {
+    resolvedPaths.clear();
+    synchronized (contents) {
+      contents.clear();
+      size = 0;
+    }
+  }
+
+  /**
+   * @return The number of cached files
+   */
+  public int getEntryCount() {
+    synchronized (contents) {
+      return contents.size();
+    }
+  }
+
+  /**
+   * @return The total size of the cached files, in bytes
+   */
+  public long getSize() {
+    synchronized (contents) {
+      return size;
+    }
+  }
+
+  /**
+   * @return The maximum total size of the cached files, in bytes
+   */
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return The number of requests served from the cache
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return The number of requests that had to read a file
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public String toString() {
+    return MessageFormat.format("{0} files, {1} bytes, {2} hits, {3} misses", getEntryCount(),
+        getSize(), getHitCount(), getMissCount());
+  }
+
+  /**
+   * Removes the least recently used files until the total size is within the limit. Called with
+   * the lock on {@link #contents} held.
+   */
+  private void evict() {
+    final Iterator<Map.Entry<Path, ByteBuffer>> iterator = contents.entrySet().iterator();
+    while (size > maxSize && iterator.hasNext()) {
+      final Map.Entry<Path, ByteBuffer> eldest = iterator.next();
+      logger.debug("Evicting [{}] from the cache", eldest.getKey());
+      size -= eldest.getValue().capacity();
+      iterator.remove();
+    }
+  }
+
+  private ByteBuffer load(final Path path) throws IOException {
+    final ByteBuffer result;
+    if (path.getFileSystem() == FileSystems.getDefault()) {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        final long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+          throw new IOException(MessageFormat.format("[{0}] is too large to be cached", path));
+        }
+        // The mapping remains valid after the channel is closed
+        result = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+      }
+    } else {
+      result = ByteBuffer.wrap(Files.readAllBytes(path));
+    }
+
+    logger.debug("Read [{}] ({} bytes)", path, result.capacity());
+
+    return result.asReadOnlyBuffer();
+  }
+
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+      final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
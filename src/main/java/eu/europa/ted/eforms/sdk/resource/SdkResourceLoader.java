@@ -2,6 +2,7 @@ package eu.europa.ted.eforms.sdk.resource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.MessageFormat;
@@ -57,12 +58,12 @@ public class SdkResourceLoader {
 
   public static Path getResourceAsPath(final String sdkVersion,
       final PathResource resourceType, String filename, Path sdkRootPath) {
-    return getResourceAsPath(new SdkVersion(sdkVersion), resourceType, filename, sdkRootPath);
+    return getResourceAsPath(SdkVersion.of(sdkVersion), resourceType, filename, sdkRootPath);
   }
 
   public static Path getResourceAsPath(final String sdkVersion,
       final PathResource resourceType, Path sdkRootPath) {
-    return getResourceAsPath(new SdkVersion(sdkVersion), resourceType, sdkRootPath);
+    return getResourceAsPath(SdkVersion.of(sdkVersion), resourceType, sdkRootPath);
   }
 
   /**
@@ -82,6 +83,30 @@ public class SdkResourceLoader {
 
   public static InputStream getResourceAsStream(final String sdkVersion,
       final PathResource resourceType, final String filename, Path sdkRootPath) throws IOException {
-    return getResourceAsStream(new SdkVersion(sdkVersion), resourceType, filename, sdkRootPath);
+    return getResourceAsStream(SdkVersion.of(sdkVersion), resourceType, filename, sdkRootPath);
+  }
+
+  /**
+   * Returns the contents of a resource of the given SDK version from the
+   * {@link SdkResourceCache#getDefault() default resource cache}. The resource is read only once,
+   * however many times it is requested.
+   *
+   * @param sdkVersion The target SDK version
+   * @param resourceType The resource type
+   * @param filename The target filename
+   * @param sdkRootPath Path of the root SDK folder
+   * @return A read-only view of the resource's contents
+   * @throws IOException if the resource cannot be retrieved
+   */
+  public static ByteBuffer getResourceAsBuffer(final SdkVersion sdkVersion,
+      final PathResource resourceType, final String filename, Path sdkRootPath)
+      throws IOException {
+    return SdkResourceCache.getDefault().get(sdkVersion, resourceType, filename, sdkRootPath);
+  }
+
+  public static ByteBuffer getResourceAsBuffer(final String sdkVersion,
+      final PathResource resourceType, final String filename, Path sdkRootPath)
+      throws IOException {
+    return getResourceAsBuffer(SdkVersion.of(sdkVersion), resourceType, filename, sdkRootPath);
   }
 }
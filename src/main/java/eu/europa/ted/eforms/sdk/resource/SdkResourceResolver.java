@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+
+/**
+ * Locates the resources of one version of the eForms SDK.
+ * <p>
+ * The resources can be in an unpacked SDK directory ({@link DirectorySdkResourceResolver}) or
+ * directly in the SDK archive ({@link ArchiveSdkResourceResolver}). In both cases the returned
+ * paths can be read with {@link Files}, and passed to the SDK repositories.
+ * <p>
+ * Resolvers that hold resources (e.g. an open archive) release them when closed. Paths returned
+ * by a resolver must not be used after it is closed.
+ */
+public interface SdkResourceResolver extends Closeable {
+  /**
+   * @return The root of the SDK, i.e. the directory containing "fields", "codelists" etc.
+   */
+  Path getSdkRoot();
+
+  /**
+   * Returns the path of a resource.
+   *
+   * @param resourceType The resource type, or null for the SDK root
+   * @param filename The target filename (possibly with subfolders), or null for the resource
+   *        itself
+   * @return The path of the resource
+   * @throws IllegalArgumentException If the resource does not exist
+   */
+  default Path resolve(final PathResource resourceType, final String filename) {
+    Path result = getSdkRoot();
+
+    // Resolve name by name, as the resource path may belong to another file system
+    if (resourceType != null) {
+      for (Path name : resourceType.getPath()) {
+        result = result.resolve(name.toString());
+      }
+    }
+    if (StringUtils.isNotEmpty(filename)) {
+      result = result.resolve(filename);
+    }
+
+    Validate.isTrue(Files.exists(result),
+        MessageFormat.format("Resource [{0}] does not exist", result.toUri()));
+
+    return result;
+  }
+
+  default Path resolve(final PathResource resourceType) {
+    return resolve(resourceType, null);
+  }
+
+  default boolean exists(final PathResource resourceType, final String filename) {
+    try {
+      resolve(resourceType, filename);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  default InputStream getResourceAsStream(final PathResource resourceType, final String filename)
+      throws IOException {
+    return Files.newInputStream(resolve(resourceType, filename));
+  }
+
+  @Override
+  default void close() throws IOException {
+    // Nothing to release by default
+  }
+
+  /**
+   * Finds the SDK on the classpath of the given class loader, i.e. the SDK artifact added as a
+   * dependency of the application.
+   *
+   * @param classLoader The class loader to search, or null for the context class loader
+   * @return A resolver reading from the SDK archive, or from the SDK directory if the classpath
+   *         entry is a directory
+   * @throws IOException If the SDK is not on the classpath or its archive cannot be opened
+   */
+  static SdkResourceResolver fromClasspath(final ClassLoader classLoader) throws IOException {
+    final ClassLoader loader =
+        classLoader != null ? classLoader : Thread.currentThread().getContextClassLoader();
+
+    final String marker = ArchiveSdkResourceResolver.SDK_ARCHIVE_ROOT + "/"
+        + toResourceName(SdkConstants.SdkResource.FIELDS_JSON);
+    final URL url = loader.getResource(marker);
+    if (url == null) {
+      throw new IOException(MessageFormat.format("No eForms SDK found on the classpath ({0})",
+          marker));
+    }
+
+    try {
+      switch (url.getProtocol()) {
+        case "jar": {
+          // jar:<archive URL>!/fields/fields.json
+          final String archive = StringUtils.substringBefore(url.toString(), "!/");
+          return new ArchiveSdkResourceResolver(
+              Path.of(new URL(archive.substring("jar:".length())).toURI()));
+        }
+        case "file":
+          // <root>/fields/fields.json
+          return new DirectorySdkResourceResolver(Path.of(url.toURI()).getParent().getParent());
+        default:
+          throw new IOException(
+              MessageFormat.format("Unsupported location of the eForms SDK: {0}", url));
+      }
+    } catch (URISyntaxException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * @return The path of the resource with "/" separators, as used for class loader resources
+   */
+  private static String toResourceName(final PathResource resourceType) {
+    final StringBuilder result = new StringBuilder();
+    for (Path name : resourceType.getPath()) {
+      if (result.length() > 0) {
+        result.append('/');
+      }
+      result.append(name);
+    }
+    return result.toString();
+  }
+}
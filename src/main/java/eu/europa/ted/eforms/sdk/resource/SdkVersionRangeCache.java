@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.sdk.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of the versions found by version range resolutions, so that the Maven
+ * metadata does not need to be fetched every time an SDK is looked up.
+ * <p>
+ * The cache is a properties file in the SDK root directory. Each entry maps a version range
+ * (e.g. {@code [1.0.*]}) to the time it was resolved and the versions found. Entries older than
+ * the TTL, which is zero unless configured, are ignored, except in offline mode.
+ * <p>
+ * The file is replaced atomically on every update, so that several processes sharing the same
+ * SDK root directory never read a partially written file. Concurrent updates from different
+ * processes may overwrite each other, which only causes extra resolutions.
+ */
+class SdkVersionRangeCache {
+  private static final Logger logger = LoggerFactory.getLogger(SdkVersionRangeCache.class);
+
+  static final String CACHE_FILE_NAME = ".sdk-version-ranges.properties";
+
+  /**
+   * System property with the time to live of cached version ranges, as an ISO-8601 duration
+   * (e.g. PT1H). By default, cached version ranges are only used in offline mode, so that a new
+   * SDK release is found as soon as it is published.
+   */
+  static final String TTL_PROPERTY = "eforms.sdk.versions.ttl";
+
+  /**
+   * System property that enables offline mode when set to true.
+   */
+  static final String OFFLINE_PROPERTY = "eforms.sdk.offline";
+
+  static final Duration DEFAULT_TTL = Duration.ZERO;
+
+  private static final String TIMESTAMP_SEPARATOR = ";";
+  private static final String VERSION_SEPARATOR = ",";
+
+  private static final Map<Path, SdkVersionRangeCache> INSTANCES = new ConcurrentHashMap<>();
+
+  private final Path cacheFile;
+  private final Clock clock;
+
+  SdkVersionRangeCache(final Path rootDir, final Clock clock) {
+    this.cacheFile = rootDir.resolve(CACHE_FILE_NAME);
+    this.clock = clock;
+  }
+
+  /**
+   * @return The cache shared by all downloads into the given SDK root directory
+   */
+  static SdkVersionRangeCache forRootDir(final Path rootDir) {
+    return INSTANCES.computeIfAbsent(rootDir.toAbsolutePath().normalize(),
+        dir -> new SdkVersionRangeCache(dir, Clock.systemUTC()));
+  }
+
+  static boolean isOffline() {
+    return Boolean.parseBoolean(System.getProperty(OFFLINE_PROPERTY));
+  }
+
+  static Duration getTtl() {
+    final String value = System.getProperty(TTL_PROPERTY);
+    if (StringUtils.isBlank(value)) {
+      return DEFAULT_TTL;
+    }
+    try {
+      return Duration.parse(value.trim());
+    } catch (DateTimeParseException e) {
+      logger.warn("Ignoring invalid value [{}] of system property {}", value, TTL_PROPERTY);
+      return DEFAULT_TTL;
+    }
+  }
+
+  /**
+   * Gets the versions cached for a version range.
+   *
+   * @param versionRange The version range
+   * @param ttl The maximum age of the entry, or null to accept entries of any age
+   * @return The versions found when the range was last resolved, or empty if the range is not in
+   *         the cache or its entry is too old
+   */
+  synchronized Optional<List<String>> get(final String versionRange, final Duration ttl) {
+    final String entry = load().getProperty(versionRange);
+    if (entry == null || !entry.contains(TIMESTAMP_SEPARATOR)) {
+      return Optional.empty();
+    }
+
+    final String timestamp = StringUtils.substringBefore(entry, TIMESTAMP_SEPARATOR);
+    final String versions = StringUtils.substringAfter(entry, TIMESTAMP_SEPARATOR);
+    try {
+      final long age = clock.millis() - Long.parseLong(timestamp);
+      if (ttl != null && (age < 0 || age > ttl.toMillis())) {
+        logger.debug("Cached versions of range {} have expired", versionRange);
+        return Optional.empty();
+      }
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+
+    logger.debug("Using cached versions of range {}: {}", versionRange, versions);
+    return Optional.of(versions.isEmpty() ? Collections.emptyList()
+        : Arrays.asList(versions.split(VERSION_SEPARATOR)));
+  }
+
+  synchronized void put(final String versionRange, final List<String> versions) {
+    final Properties properties = load();
+    properties.setProperty(versionRange,
+        clock.millis() + TIMESTAMP_SEPARATOR + String.join(VERSION_SEPARATOR, versions));
+
+    try {
+      Files.createDirectories(cacheFile.getParent());
+      final Path tempFile = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, ".tmp");
+      try {
+        try (OutputStream output = Files.newOutputStream(tempFile)) {
+          properties.store(output, "Versions of the eForms SDK found in the Maven repositories");
+        }
+        try {
+          Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE,
+              StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tempFile);
+      }
+    } catch (IOException e) {
+      // The cache is only an optimisation
+      logger.warn("Failed to update the SDK version cache [{}]: {}", cacheFile, e.getMessage());
+    }
+  }
+
+  private Properties load() {
+    final Properties properties = new Properties();
+    if (Files.isRegularFile(cacheFile)) {
+      try (InputStream input = Files.newInputStream(cacheFile)) {
+        properties.load(input);
+      } catch (IOException | IllegalArgumentException e) {
+        logger.warn("Ignoring unreadable SDK version cache [{}]: {}", cacheFile, e.getMessage());
+      }
+    }
+    return properties;
+  }
+}
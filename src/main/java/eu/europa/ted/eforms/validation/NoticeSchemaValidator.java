@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import eu.europa.ted.eforms.NoticeDocument;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceLoader;
+
+/**
+ * Validates notices against the XML schemas of the SDK.
+ * <p>
+ * All the schemas of the maindoc folder of the SDK (one per document type, e.g. ContractNotice)
+ * are compiled together into a single {@link Schema}, along with the common schemas they import.
+ * Compiling the schemas takes a few seconds, so {@link #getInstance(String, Path)} keeps one
+ * validator per SDK folder.
+ * <p>
+ * Instances are safe for concurrent use: each validation borrows a {@link Validator} from a pool
+ * kept by the instance, and returns it afterwards. The pool keeps at most one idle validator per
+ * processor, and is released with the instance.
+ */
+public class NoticeSchemaValidator {
+  private static final Logger logger = LoggerFactory.getLogger(NoticeSchemaValidator.class);
+
+  private static final Map<Path, NoticeSchemaValidator> INSTANCES = new ConcurrentHashMap<>();
+
+  private final Path schemasDir;
+
+  private final Schema schema;
+
+  /**
+   * Idle validators, reused by the next validations.
+   */
+  private final BlockingQueue<Validator> validators =
+      new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+  /**
+   * Compiles the schemas of the given folder.
+   *
+   * @param maindocSchemasDir The folder of the schemas of the document types (the schemas/maindoc
+   *        folder of the SDK)
+   */
+  public NoticeSchemaValidator(final Path maindocSchemasDir) {
+    this.schemasDir = Validate.notNull(maindocSchemasDir, "Undefined schemas directory");
+
+    Validate.isTrue(Files.isDirectory(maindocSchemasDir),
+        "Schemas directory [%s] is not found or not a directory", maindocSchemasDir);
+
+    this.schema = compile(maindocSchemasDir);
+  }
+
+  /**
+   * Returns the validator for the schemas of an SDK version, compiling them on first use.
+   *
+   * @param sdkVersion The SDK version
+   * @param sdkRootDir The root folder of the SDKs
+   * @return The validator, shared by all callers asking for the same SDK folder
+   */
+  public static NoticeSchemaValidator getInstance(final String sdkVersion,
+      final Path sdkRootDir) {
+    final Path schemasDir = SdkResourceLoader.getResourceAsPath(sdkVersion,
+        SdkConstants.SdkResource.SCHEMAS_MAINDOC, sdkRootDir);
+
+    return INSTANCES.computeIfAbsent(schemasDir.toAbsolutePath().normalize(),
+        NoticeSchemaValidator::new);
+  }
+
+  /**
+   * Discards the validators kept by {@link #getInstance(String, Path)}, e.g. after an SDK has been
+   * downloaded again.
+   */
+  public static void clearInstances() {
+    INSTANCES.clear();
+  }
+
+  private static Schema compile(final Path schemasDir) {
+    logger.debug("Compiling the XML schemas of [{}]", schemasDir);
+
+    final long start = Metrics.startTimer();
+
+    final List<Source> sources;
+    try (Stream<Path> files = Files.list(schemasDir)) {
+      sources = files
+          .filter((Path file) -> file.getFileName().toString().endsWith(".xsd"))
+          .sorted()
+          .map((Path file) -> new StreamSource(file.toUri().toString()))
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          MessageFormat.format("Failed to list the XML schemas in [{0}]", schemasDir), e);
+    }
+
+    Validate.isTrue(!sources.isEmpty(), "No XML schema found in [%s]", schemasDir);
+
+    final Schema result;
+    try {
+      result = newSchemaFactory().newSchema(sources.toArray(new Source[0]));
+    } catch (SAXException e) {
+      throw new RuntimeException(
+          MessageFormat.format("Failed to compile the XML schemas in [{0}]", schemasDir), e);
+    }
+
+    Metrics.recordTime(MetricNames.SCHEMA_COMPILE, start);
+    logger.debug("Compiled {} XML schemas of [{}]", sources.size(), schemasDir);
+
+    return result;
+  }
+
+  /**
+   * The schemas are read from the SDK folder (or archive), so local schema imports are allowed.
+   * DTDs are not, as recommended by OWASP.
+   */
+  private static SchemaFactory newSchemaFactory() throws SAXException {
+    final SchemaFactory factory = SchemaFactory.newDefaultInstance();
+    factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+    factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+    factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "file,jar");
+    return factory;
+  }
+
+  private Validator newValidator() {
+    final Validator result = this.schema.newValidator();
+    try {
+      result.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+      result.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+    } catch (SAXException e) {
+      throw new IllegalStateException("Failed to configure the XML schema validator", e);
+    }
+    return result;
+  }
+
+  public Path getSchemasDir() {
+    return this.schemasDir;
+  }
+
+  /**
+   * Validates a notice. The notice is validated from its XML contents, as its DOM does not keep
+   * the namespaces of the elements.
+   *
+   * @param notice The notice
+   * @return The messages of the validation; an empty list if the notice is valid
+   */
+  public List<ValidationMessage> validate(final NoticeDocument notice) {
+    Validate.notNull(notice, "Undefined notice");
+    try {
+      return validate(new StreamSource(new StringReader(notice.getXmlContents())));
+    } catch (IOException e) {
+      // Not expected when reading from a string.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Validates several notices in parallel, in the common fork-join pool.
+   *
+   * @param notices The notices
+   * @return The messages of the validation of each notice, in the same order as the notices
+   */
+  public List<List<ValidationMessage>> validate(final List<NoticeDocument> notices) {
+    Validate.notNull(notices, "Undefined notices");
+    return notices.parallelStream()
+        .map(this::validate)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @param noticeXmlInput The XML of a notice; it is not closed
+   * @return The messages of the validation; an empty list if the notice is valid
+   * @throws IOException If the notice cannot be read
+   */
+  public List<ValidationMessage> validate(final InputStream noticeXmlInput) throws IOException {
+    Validate.notNull(noticeXmlInput, "Undefined Notice XML input");
+    return validate(new StreamSource(noticeXmlInput));
+  }
+
+  /**
+   * @param noticeXmlPath The XML file of a notice
+   * @return The messages of the validation; an empty list if the notice is valid
+   * @throws IOException If the notice cannot be read
+   */
+  public List<ValidationMessage> validate(final Path noticeXmlPath) throws IOException {
+    Validate.notNull(noticeXmlPath, "Undefined Notice XML file path");
+    try (InputStream input = Files.newInputStream(noticeXmlPath)) {
+      return validate(input);
+    }
+  }
+
+  private List<ValidationMessage> validate(final Source source) throws IOException {
+    final long start = Metrics.startTimer();
+
+    final MessageCollector messages = new MessageCollector();
+    Validator validator = this.validators.poll();
+    if (validator == null) {
+      validator = newValidator();
+    }
+    validator.setErrorHandler(messages);
+    try {
+      validator.validate(source);
+    } catch (SAXException e) {
+      // Fatal errors are reported to the error handler before being thrown.
+      if (!messages.hasFatalError) {
+        messages.add(ValidationMessage.Severity.FATAL, e);
+      }
+    } finally {
+      validator.setErrorHandler(null);
+      // Dropped if the pool is full
+      this.validators.offer(validator);
+    }
+
+    Metrics.recordTime(MetricNames.NOTICE_SCHEMA_VALIDATION, start);
+
+    return messages.result;
+  }
+
+  private static class MessageCollector implements ErrorHandler {
+    private final List<ValidationMessage> result = new ArrayList<>();
+    private boolean hasFatalError = false;
+
+    @Override
+    public void warning(final SAXParseException exception) {
+      add(ValidationMessage.Severity.WARNING, exception);
+    }
+
+    @Override
+    public void error(final SAXParseException exception) {
+      add(ValidationMessage.Severity.ERROR, exception);
+    }
+
+    @Override
+    public void fatalError(final SAXParseException exception) throws SAXException {
+      this.hasFatalError = true;
+      add(ValidationMessage.Severity.FATAL, exception);
+      throw exception;
+    }
+
+    private void add(final ValidationMessage.Severity severity, final SAXException exception) {
+      if (exception instanceof SAXParseException) {
+        final SAXParseException parseException = (SAXParseException) exception;
+        this.result.add(new ValidationMessage(severity, parseException.getMessage(),
+            parseException.getLineNumber(), parseException.getColumnNumber()));
+      } else {
+        this.result.add(new ValidationMessage(severity, exception.getMessage(), -1, -1));
+      }
+    }
+  }
+}
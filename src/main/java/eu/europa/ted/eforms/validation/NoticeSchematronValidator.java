@@ -0,0 +1,368 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.stream.StreamSource;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+import eu.europa.ted.eforms.NoticeDocument;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.resource.PathResource;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceLoader;
+
+/**
+ * Validates notices against Schematron rules that have been compiled to XSLT.
+ * <p>
+ * The SDK provides its Schematron rules as .sch files, which must be compiled to XSLT beforehand
+ * (e.g. with SchXslt) and placed next to them as .xsl or .xslt files. The eForms rules use XPath
+ * 2.0, so an XSLT 2.0 processor, such as Saxon, must be available through JAXP.
+ * <p>
+ * Each stylesheet is compiled once into {@link Templates}, which are cached by file and shared by
+ * all validators. {@link #getInstance(String, PathResource, Path)} keeps one validator per SDK
+ * folder. Each validation borrows {@link Transformer}s from a pool kept by the validator, and
+ * returns them afterwards. The SVRL output of the stylesheets is not kept: the failed assertions
+ * and successful reports are collected into {@link ValidationMessage}s as the output is produced.
+ */
+public class NoticeSchematronValidator {
+  private static final Logger logger = LoggerFactory.getLogger(NoticeSchematronValidator.class);
+
+  private static final String SVRL_NAMESPACE = "http://purl.oclc.org/dsdl/svrl";
+
+  private static final Map<Path, Templates> TEMPLATES = new ConcurrentHashMap<>();
+
+  private static final Map<Path, NoticeSchematronValidator> INSTANCES = new ConcurrentHashMap<>();
+
+  private final List<Path> stylesheets;
+
+  private final List<Templates> templates;
+
+  /**
+   * Idle transformers, one per stylesheet, reused by the next validations. At most one set per
+   * processor is kept.
+   */
+  private final BlockingQueue<Transformer[]> transformers =
+      new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+  /**
+   * @param stylesheets The XSLT files of the compiled Schematron rules. The messages of all of
+   *        them are returned, in the same order.
+   */
+  public NoticeSchematronValidator(final List<Path> stylesheets) {
+    Validate.notEmpty(stylesheets, "Undefined Schematron stylesheets");
+
+    this.stylesheets = List.copyOf(stylesheets);
+    this.templates = this.stylesheets.stream()
+        .map(NoticeSchematronValidator::getTemplates)
+        .collect(Collectors.toUnmodifiableList());
+  }
+
+  /**
+   * Returns a validator for the compiled Schematron rules of an SDK version.
+   *
+   * @param sdkVersion The SDK version
+   * @param schematronsResource {@link SdkConstants.SdkResource#SCHEMATRONS_STATIC} or
+   *        {@link SdkConstants.SdkResource#SCHEMATRONS_DYNAMIC}
+   * @param sdkRootDir The root folder of the SDKs
+   * @return A validator using all the .xsl and .xslt files of the folder, shared by all callers
+   *         asking for the same folder
+   */
+  public static NoticeSchematronValidator getInstance(final String sdkVersion,
+      final PathResource schematronsResource, final Path sdkRootDir) {
+    final Path schematronsDir =
+        SdkResourceLoader.getResourceAsPath(sdkVersion, schematronsResource, sdkRootDir);
+
+    return INSTANCES.computeIfAbsent(schematronsDir.toAbsolutePath().normalize(),
+        NoticeSchematronValidator::newInstance);
+  }
+
+  private static NoticeSchematronValidator newInstance(final Path schematronsDir) {
+    Validate.isTrue(Files.isDirectory(schematronsDir),
+        "Schematrons directory [%s] is not found or not a directory", schematronsDir);
+
+    final List<Path> stylesheets;
+    try (Stream<Path> files = Files.list(schematronsDir)) {
+      stylesheets = files
+          .filter((Path file) -> {
+            final String filename = file.getFileName().toString();
+            return filename.endsWith(".xsl") || filename.endsWith(".xslt");
+          })
+          .sorted()
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          MessageFormat.format("Failed to list the stylesheets in [{0}]", schematronsDir), e);
+    }
+
+    Validate.isTrue(!stylesheets.isEmpty(),
+        "No compiled Schematron (.xsl or .xslt file) found in [%s]", schematronsDir);
+
+    return new NoticeSchematronValidator(stylesheets);
+  }
+
+  /**
+   * Discards the compiled stylesheets and the validators kept by
+   * {@link #getInstance(String, PathResource, Path)}, e.g. after an SDK has been downloaded again.
+   * Existing validators keep using the stylesheets they were created with.
+   */
+  public static void clearCache() {
+    INSTANCES.clear();
+    TEMPLATES.clear();
+  }
+
+  private static Templates getTemplates(final Path stylesheet) {
+    return TEMPLATES.computeIfAbsent(stylesheet.toAbsolutePath().normalize(),
+        NoticeSchematronValidator::compile);
+  }
+
+  private static Templates compile(final Path stylesheet) {
+    logger.debug("Compiling Schematron stylesheet [{}]", stylesheet);
+
+    final long start = Metrics.startTimer();
+
+    final Templates result;
+    try {
+      result = newTransformerFactory()
+          .newTemplates(new StreamSource(stylesheet.toUri().toString()));
+    } catch (TransformerConfigurationException e) {
+      throw new RuntimeException(
+          MessageFormat.format("Failed to compile Schematron stylesheet [{0}]", stylesheet), e);
+    }
+
+    Metrics.recordTime(MetricNames.SCHEMATRON_COMPILE, start);
+    logger.debug("Compiled Schematron stylesheet [{}]", stylesheet);
+
+    return result;
+  }
+
+  /**
+   * Stylesheets may import other stylesheets of the SDK folder (or archive). DTDs are not allowed,
+   * as recommended by OWASP.
+   */
+  private static TransformerFactory newTransformerFactory() {
+    final TransformerFactory factory = TransformerFactory.newInstance();
+    try {
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+      factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "file,jar");
+    } catch (TransformerConfigurationException | IllegalArgumentException e) {
+      logger.info("The XSLT processor [{}] does not support restricting external access: {}",
+          factory.getClass().getName(), e.getMessage());
+    }
+    return factory;
+  }
+
+  private Transformer[] newTransformers() {
+    final Transformer[] result = new Transformer[this.templates.size()];
+    for (int i = 0; i < result.length; i++) {
+      try {
+        result[i] = this.templates.get(i).newTransformer();
+      } catch (TransformerConfigurationException e) {
+        throw new IllegalStateException(MessageFormat.format(
+            "Failed to create a transformer for [{0}]", this.stylesheets.get(i)), e);
+      }
+    }
+    return result;
+  }
+
+  public List<Path> getStylesheets() {
+    return this.stylesheets;
+  }
+
+  /**
+   * Validates a notice, from its XML contents.
+   *
+   * @param notice The notice
+   * @return The failed assertions and successful reports; an empty list if there is none
+   */
+  public List<ValidationMessage> validate(final NoticeDocument notice) {
+    Validate.notNull(notice, "Undefined notice");
+    final String xmlContents = notice.getXmlContents();
+    return validate(() -> new StreamSource(new StringReader(xmlContents)));
+  }
+
+  /**
+   * Validates several notices in parallel, in the common fork-join pool.
+   *
+   * @param notices The notices
+   * @return The messages of the validation of each notice, in the same order as the notices
+   */
+  public List<List<ValidationMessage>> validate(final List<NoticeDocument> notices) {
+    Validate.notNull(notices, "Undefined notices");
+    return notices.parallelStream()
+        .map(this::validate)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @param noticeXmlPath The XML file of a notice
+   * @return The failed assertions and successful reports; an empty list if there is none
+   */
+  public List<ValidationMessage> validate(final Path noticeXmlPath) {
+    Validate.notNull(noticeXmlPath, "Undefined Notice XML file path");
+    return validate(() -> new StreamSource(noticeXmlPath.toUri().toString()));
+  }
+
+  /**
+   * The notice is read once per stylesheet. To validate a stream against several stylesheets,
+   * read it into a {@link NoticeDocument} first.
+   *
+   * @param noticeXmlInput The XML of a notice; it is not closed
+   * @return The failed assertions and successful reports; an empty list if there is none
+   */
+  public List<ValidationMessage> validate(final InputStream noticeXmlInput) {
+    Validate.notNull(noticeXmlInput, "Undefined Notice XML input");
+    Validate.isTrue(this.templates.size() == 1,
+        "Validating a stream against several stylesheets is not supported");
+    return validate(() -> new StreamSource(noticeXmlInput));
+  }
+
+  private List<ValidationMessage> validate(final SourceSupplier source) {
+    final long start = Metrics.startTimer();
+
+    final SvrlCollector messages = new SvrlCollector();
+    Transformer[] borrowed = this.transformers.poll();
+    if (borrowed == null) {
+      borrowed = newTransformers();
+    }
+    try {
+      for (int i = 0; i < borrowed.length; i++) {
+        final Transformer transformer = borrowed[i];
+        try {
+          transformer.transform(source.get(), new SAXResult(messages));
+        } catch (TransformerException e) {
+          throw new RuntimeException(MessageFormat.format(
+              "Failed to apply Schematron stylesheet [{0}]. Error was: {1}",
+              this.stylesheets.get(i), e.getMessageAndLocation()), e);
+        } finally {
+          transformer.reset();
+        }
+      }
+    } finally {
+      // Dropped if the pool is full
+      this.transformers.offer(borrowed);
+    }
+
+    Metrics.recordTime(MetricNames.NOTICE_SCHEMATRON_VALIDATION, start);
+
+    return Collections.unmodifiableList(messages.result);
+  }
+
+  @FunctionalInterface
+  private interface SourceSupplier {
+    Source get();
+  }
+
+  /**
+   * Collects the failed assertions and successful reports of SVRL output.
+   */
+  private static class SvrlCollector extends DefaultHandler {
+    private final List<ValidationMessage> result = new ArrayList<>();
+
+    private String id;
+    private String role;
+    private String location;
+    private StringBuilder text;
+    private boolean inText;
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName,
+        final Attributes attributes) {
+      if (!SVRL_NAMESPACE.equals(uri)) {
+        return;
+      }
+
+      if ("failed-assert".equals(localName) || "successful-report".equals(localName)) {
+        this.id = attributes.getValue("id");
+        this.role = attributes.getValue("role");
+        this.location = attributes.getValue("location");
+        this.text = new StringBuilder();
+      } else if ("text".equals(localName) && this.text != null) {
+        this.inText = true;
+      }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+      if (this.inText) {
+        this.text.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+      if (!SVRL_NAMESPACE.equals(uri)) {
+        return;
+      }
+
+      if ("text".equals(localName)) {
+        this.inText = false;
+      } else if (this.text != null
+          && ("failed-assert".equals(localName) || "successful-report".equals(localName))) {
+        this.result.add(new ValidationMessage(toSeverity(this.role),
+            StringUtils.normalizeSpace(this.text.toString()), this.id, this.location));
+        this.text = null;
+      }
+    }
+
+    /**
+     * Maps the role of an assertion or report to a severity. The eForms rules use ERROR, WARN
+     * and INFO; assertions without a role are errors.
+     */
+    private static ValidationMessage.Severity toSeverity(final String role) {
+      switch (StringUtils.defaultString(role).toLowerCase(Locale.ROOT)) {
+        case "fatal":
+          return ValidationMessage.Severity.FATAL;
+        case "warn":
+        case "warning":
+          return ValidationMessage.Severity.WARNING;
+        case "info":
+        case "information":
+          return ValidationMessage.Severity.INFO;
+        default:
+          return ValidationMessage.Severity.ERROR;
+      }
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.eforms.validation;
+
+import java.util.Objects;
+
+/**
+ * A message reported when validating a notice.
+ *
+ * Messages of the XML schema validation have a line and column number. Messages of the Schematron
+ * validation have the ID of the rule that failed and the XPath of the element it failed on.
+ * Information that is not available is null (or -1 for line and column numbers).
+ */
+public class ValidationMessage {
+  public enum Severity {
+    INFO, WARNING, ERROR, FATAL
+  }
+
+  private final Severity severity;
+  private final String message;
+  private final int lineNumber;
+  private final int columnNumber;
+  private final String ruleId;
+  private final String location;
+
+  public ValidationMessage(final Severity severity, final String message, final int lineNumber,
+      final int columnNumber) {
+    this(severity, message, lineNumber, columnNumber, null, null);
+  }
+
+  public ValidationMessage(final Severity severity, final String message, final String ruleId,
+      final String location) {
+    this(severity, message, -1, -1, ruleId, location);
+  }
+
+  private ValidationMessage(final Severity severity, final String message, final int lineNumber,
+      final int columnNumber, final String ruleId, final String location) {
+    this.severity = Objects.requireNonNull(severity, "Undefined severity");
+    this.message = message;
+    this.lineNumber = lineNumber;
+    this.columnNumber = columnNumber;
+    this.ruleId = ruleId;
+    this.location = location;
+  }
+
+  public Severity getSeverity() {
+    return this.severity;
+  }
+
+  public String getMessage() {
+    return this.message;
+  }
+
+  public int getLineNumber() {
+    return this.lineNumber;
+  }
+
+  public int getColumnNumber() {
+    return this.columnNumber;
+  }
+
+  public String getRuleId() {
+    return this.ruleId;
+  }
+
+  /**
+   * @return The XPath of the element the message is about, or null
+   */
+  public String getLocation() {
+    return this.location;
+  }
+
+  /**
+   * @return True for messages of severity {@link Severity#ERROR} or {@link Severity#FATAL}
+   */
+  public boolean isError() {
+    return this.severity == Severity.ERROR || this.severity == Severity.FATAL;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder result = new StringBuilder().append(this.severity);
+    if (this.ruleId != null) {
+      result.append(" [").append(this.ruleId).append(']');
+    }
+    if (this.lineNumber >= 0) {
+      result.append(" at ").append(this.lineNumber).append(':').append(this.columnNumber);
+    }
+    if (this.location != null) {
+      result.append(" at ").append(this.location);
+    }
+    return result.append(": ").append(this.message).toString();
+  }
+}
@@ -5,13 +5,29 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 import java.util.stream.Collectors;
+import eu.europa.ted.eforms.jfr.XPathParseEvent;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
 
 public class XPathProcessor {
 
   public static XPathInfo parse(String xpathInput) {
+    final long start = Metrics.startTimer();
+    final XPathParseEvent event = new XPathParseEvent();
+    event.begin();
+
     XPathListenerImpl parser = new XPathListenerImpl();
+    XPathInfo result = parser.parse(xpathInput);
+
+    event.end();
+    if (event.shouldCommit()) {
+      event.xpath = xpathInput;
+      event.stepCount = result.getSteps().size();
+      event.commit();
+    }
+    Metrics.recordTime(MetricNames.XPATH_PARSE, start);
 
-    return parser.parse(xpathInput);
+    return result;
   }
 
   public static String addAxis(String axis, String path) {
@@ -30,18 +30,27 @@ import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
 import org.eclipse.aether.util.repository.AuthenticationBuilder;
 import org.eclipse.aether.util.repository.DefaultProxySelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import eu.europa.ted.eforms.jfr.MavenResolutionEvent;
 import eu.europa.ted.maven.listener.ConsoleRepositoryListener;
 import eu.europa.ted.maven.listener.ConsoleTransferListener;
+import eu.europa.ted.maven.listener.MetricsTransferListener;
 
 public class MavenBooter {
   private static final Logger logger = LoggerFactory.getLogger(MavenBooter.class);
 
   private static final String SETTINGS_FILE_NAME = "settings.xml";
 
+  /**
+   * Records the transfers of all sessions. Declared before {@link #INSTANCE}, which uses it.
+   */
+  private static final MetricsTransferListener TRANSFER_METRICS = new MetricsTransferListener();
+
   private static final MavenBooter INSTANCE = new MavenBooter();
 
   private final RepositorySystem repositorySystem;
@@ -66,18 +75,49 @@ public class MavenBooter {
     VersionRangeRequest rangeRequest = new VersionRangeRequest().setArtifact(artifact)
         .setRepositories(MavenBooter.INSTANCE.repositories);
 
-    return MavenBooter.INSTANCE.repositorySystem
-        .resolveVersionRange(MavenBooter.INSTANCE.repositorySession, rangeRequest);
+    final MavenResolutionEvent event = new MavenResolutionEvent();
+    event.begin();
+
+    VersionRangeResult result = null;
+    try {
+      result = MavenBooter.INSTANCE.repositorySystem
+          .resolveVersionRange(MavenBooter.INSTANCE.repositorySession, rangeRequest);
+      return result;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.request = "version range";
+        event.artifact = String.valueOf(artifact);
+        event.succeeded = result != null;
+        event.result = result != null ? String.valueOf(result.getVersions()) : null;
+        event.commit();
+      }
+    }
   }
 
   public static File resolveArtifact(Artifact artifact) throws ArtifactResolutionException {
     ArtifactRequest artifactRequest = new ArtifactRequest().setArtifact(artifact)
         .setRepositories(MavenBooter.INSTANCE.repositories);
 
-    return MavenBooter.INSTANCE.repositorySystem
-        .resolveArtifact(MavenBooter.INSTANCE.repositorySession, artifactRequest).getArtifact()
-        .getFile();
+    final MavenResolutionEvent event = new MavenResolutionEvent();
+    event.begin();
 
+    File result = null;
+    try {
+      result = MavenBooter.INSTANCE.repositorySystem
+          .resolveArtifact(MavenBooter.INSTANCE.repositorySession, artifactRequest).getArtifact()
+          .getFile();
+      return result;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.request = "artifact";
+        event.artifact = String.valueOf(artifact);
+        event.succeeded = result != null;
+        event.result = result != null ? result.toString() : null;
+        event.commit();
+      }
+    }
   }
 
   private static DefaultRepositorySystemSession newRepositorySystemSession(RepositorySystem system,
@@ -88,12 +128,30 @@ public class MavenBooter {
     session.setOffline(settings.isOffline());
     session.setLocalRepositoryManager(
         system.newLocalRepositoryManager(session, getLocalRepository(settings)));
-    session.setTransferListener(new ConsoleTransferListener());
+    session.setTransferListener(newTransferListener());
     session.setRepositoryListener(new ConsoleRepositoryListener());
 
     return session;
   }
 
+  /**
+   * The console output of transfers is only logged at debug level, so the console listener is
+   * only added when that level is enabled.
+   */
+  private static TransferListener newTransferListener() {
+    if (LoggerFactory.getLogger(ConsoleTransferListener.class).isDebugEnabled()) {
+      return ChainedTransferListener.newInstance(TRANSFER_METRICS, new ConsoleTransferListener());
+    }
+    return TRANSFER_METRICS;
+  }
+
+  /**
+   * @return The statistics of the artifacts and metadata transferred from remote repositories
+   */
+  public static MetricsTransferListener getTransferStatistics() {
+    return TRANSFER_METRICS;
+  }
+
   private static LocalRepository getLocalRepository(Settings settings) {
     List<Function<Void, Path>> localRepoDiscoveryFunctions = Arrays.asList((Void v) -> {
       logger.debug("Looking for local repository path using system property M2_LOCAL_REPO.");
@@ -42,6 +42,10 @@ public class ConsoleTransferListener extends AbstractTransferListener {
   @Override
   public void transferProgressed(TransferEvent event) {
     requireNonNull(event, EVENT_CANNOT_BE_NULL);
+    if (!logger.isDebugEnabled()) {
+      return;
+    }
+
     TransferResource resource = event.getResource();
     downloads.put(resource, event.getTransferredBytes());
 
@@ -123,6 +127,9 @@ public class ConsoleTransferListener extends AbstractTransferListener {
   private void transferCompleted(TransferEvent event) {
     requireNonNull(event, EVENT_CANNOT_BE_NULL);
     downloads.remove(event.getResource());
+    if (!logger.isDebugEnabled()) {
+      return;
+    }
 
     final StringBuilder buffer = new StringBuilder(64);
     pad(buffer, lastLength);
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.maven.listener;
+
+import static java.util.Objects.requireNonNull;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.MetadataNotFoundException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+
+/**
+ * A transfer listener that records the bytes transferred, the duration and the failures of each
+ * downloaded or uploaded resource, and passes them on to {@link Metrics} (see
+ * {@link MetricNames#MAVEN_TRANSFER} and {@link MetricNames#MAVEN_TRANSFER_BYTES}).
+ * <p>
+ * Progress events are ignored, so the listener adds no cost while data is transferred. Missing
+ * metadata (e.g. "maven-metadata.xml" not found in a repository) is expected while resolving
+ * version ranges, and is not counted as a failure.
+ */
+public class MetricsTransferListener extends AbstractTransferListener {
+  private static final String EVENT_CANNOT_BE_NULL = "event cannot be null";
+
+  private final Map<String, TransferStatistics> statistics = new ConcurrentHashMap<>();
+
+  private final TransferStatistics total = new TransferStatistics();
+
+  public MetricsTransferListener() {
+    // Default Constructor
+  }
+
+  /**
+   * @param resourceName A resource, relative to its repository
+   * @return The statistics of the transfers of the resource, if it was transferred
+   */
+  public Optional<TransferStatistics> getStatistics(final String resourceName) {
+    return Optional.ofNullable(statistics.get(resourceName));
+  }
+
+  /**
+   * @return The statistics of each transferred resource, by resource name
+   */
+  public Map<String, TransferStatistics> getStatistics() {
+    return Collections.unmodifiableMap(statistics);
+  }
+
+  /**
+   * @return The statistics of all transfers
+   */
+  public TransferStatistics getTotal() {
+    return total;
+  }
+
+  @Override
+  public void transferSucceeded(TransferEvent event) {
+    requireNonNull(event, EVENT_CANNOT_BE_NULL);
+
+    final TransferResource resource = event.getResource();
+    final long bytes = Math.max(0, event.getTransferredBytes() - resource.getResumeOffset());
+    final long millis = getDurationMillis(resource);
+
+    getOrCreateStatistics(resource).recordSuccess(bytes, millis);
+    total.recordSuccess(bytes, millis);
+
+    Metrics.recordDuration(MetricNames.MAVEN_TRANSFER, Duration.ofMillis(millis),
+        MetricNames.TAG_STATUS, MetricNames.SUCCEEDED);
+    Metrics.count(MetricNames.MAVEN_TRANSFER_BYTES, bytes);
+  }
+
+  @Override
+  public void transferFailed(TransferEvent event) {
+    requireNonNull(event, EVENT_CANNOT_BE_NULL);
+
+    if (event.getException() instanceof MetadataNotFoundException) {
+      return;
+    }
+
+    final TransferResource resource = event.getResource();
+    final long millis = getDurationMillis(resource);
+
+    getOrCreateStatistics(resource).recordFailure(millis);
+    total.recordFailure(millis);
+
+    Metrics.recordDuration(MetricNames.MAVEN_TRANSFER, Duration.ofMillis(millis),
+        MetricNames.TAG_STATUS, MetricNames.FAILED);
+  }
+
+  private TransferStatistics getOrCreateStatistics(final TransferResource resource) {
+    return statistics.computeIfAbsent(resource.getResourceName(),
+        (String name) -> new TransferStatistics());
+  }
+
+  private static long getDurationMillis(final TransferResource resource) {
+    return Math.max(0, System.currentTimeMillis() - resource.getTransferStartTime());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 European Union
+ *
+ * Licensed under the EUPL, Version 1.2 or – as soon they will be approved by the European
+ * Commission – subsequent versions of the EUPL (the "Licence"); You may not use this work except in
+ * compliance with the Licence. You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/software/page/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the Licence
+ * is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the Licence for the specific language governing permissions and limitations under
+ * the Licence.
+ */
+package eu.europa.ted.maven.listener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the transfers of one resource, or of all resources, updated without locking.
+ */
+public class TransferStatistics {
+  private final LongAdder transfers = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder durationMillis = new LongAdder();
+
+  void recordSuccess(final long transferredBytes, final long millis) {
+    transfers.increment();
+    bytes.add(transferredBytes);
+    durationMillis.add(millis);
+  }
+
+  void recordFailure(final long millis) {
+    failures.increment();
+    durationMillis.add(millis);
+  }
+
+  /**
+   * @return The number of successful transfers
+   */
+  public long getTransferCount() {
+    return transfers.sum();
+  }
+
+  /**
+   * @return The number of failed transfers
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * @return The number of bytes transferred by successful transfers
+   */
+  public long getBytes() {
+    return bytes.sum();
+  }
+
+  /**
+   * @return The time spent in transfers, successful or not
+   */
+  public Duration getDuration() {
+    return Duration.ofMillis(durationMillis.sum());
+  }
+
+  /**
+   * @return The average throughput, in bytes per second, or 0 if nothing was timed
+   */
+  public double getThroughput() {
+    final long millis = durationMillis.sum();
+    return millis > 0 ? bytes.sum() * 1000.0 / millis : 0;
+  }
+
+  @Override
+  public String toString() {
+    return "TransferStatistics [transfers=" + getTransferCount() + ", failures="
+        + getFailureCount() + ", bytes=" + getBytes() + ", duration=" + getDuration() + "]";
+  }
+}
@@ -4,9 +4,16 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.text.MessageFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.apache.commons.io.FileUtils;
@@ -16,6 +23,7 @@ import org.apache.commons.lang3.Validate;
 import org.jooq.lambda.Unchecked;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import eu.europa.ted.eforms.jfr.ZipExtractionEvent;
 
 /**
  * Utilities for archive files.
@@ -26,6 +34,10 @@ import org.slf4j.LoggerFactory;
 public class ArchiveUtils {
   private static final Logger logger = LoggerFactory.getLogger(ArchiveUtils.class);
 
+  private static final String SDK_ENTRY_PREFIX = "eforms-sdk/";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   private ArchiveUtils() {}
 
   /**
@@ -80,4 +92,160 @@ public class ArchiveUtils {
     logger.debug("Successfully unpacked artifact file [{}] onto [{}]", archive,
         targetDir.toAbsolutePath());
   }
+
+  /**
+   * Unpacks the SDK files of a zipfile to a given directory, only writing the files that are not
+   * already there with the same contents.
+   * <p>
+   * The new contents of the directory are prepared in a temporary sibling directory: files whose
+   * size and CRC match the archive entry are linked (or copied) from the existing directory, and
+   * only the other ones are extracted, in parallel. The temporary directory then replaces the
+   * target directory with two renames, so a partially unpacked archive is never visible. The
+   * replacement is not atomic though: between the two renames, the target directory does not
+   * exist. Readers that may run while the directory is replaced must therefore be serialized with
+   * the caller, as {@code SdkDownloader} does by unpacking SDKs while holding the lock of the SDK
+   * directory. Files of the target directory that are not in the archive are dropped.
+   *
+   * @param archive Path of the zipfile to unpack
+   * @param targetDir Target directory for unpacking
+   * @throws IOException if the unpacking fails, in which case the target directory is unchanged
+   */
+  public static void unzipIncremental(File archive, Path targetDir) throws IOException {
+    if (archive == null) {
+      logger.debug("Undefined archive for unpacking. Nothing to do!");
+      return;
+    }
+
+    Validate.isTrue(Files.isRegularFile(archive.toPath()),
+        MessageFormat.format("[{0}] is not a file.", archive));
+
+    final Path target = targetDir.toAbsolutePath().normalize();
+    final Path parent = target.getParent();
+    Files.createDirectories(parent);
+
+    // Not Files.createTempDirectory, whose restrictive permissions would end up on the target
+    final Path stagingDir = Files.createDirectory(
+        parent.resolve("." + target.getFileName() + "-" + UUID.randomUUID() + ".unpacking"));
+    logger.debug("Unpacking file [{}] onto [{}] through [{}]", archive, target, stagingDir);
+
+    final ZipExtractionEvent event = new ZipExtractionEvent();
+    event.begin();
+
+    try (ZipFile file = new ZipFile(archive)) {
+      final List<? extends ZipEntry> entries = file.stream()
+          .filter((ZipEntry entry) -> entry.getName().startsWith(SDK_ENTRY_PREFIX))
+          .collect(Collectors.toList());
+
+      final LongAdder reused = new LongAdder();
+      entries.parallelStream().forEach(Unchecked.consumer((ZipEntry entry) -> {
+        final String relativePath = RegExUtils.removeFirst(entry.getName(), SDK_ENTRY_PREFIX);
+        final Path stagedPath = resolveEntry(stagingDir, relativePath);
+
+        if (entry.isDirectory()) {
+          Files.createDirectories(stagedPath);
+          return;
+        }
+
+        Files.createDirectories(stagedPath.getParent());
+        final Path existingPath = resolveEntry(target, relativePath);
+        if (isUnchanged(entry, existingPath)) {
+          linkOrCopy(existingPath, stagedPath);
+          reused.increment();
+        } else {
+          try (InputStream input = file.getInputStream(entry)) {
+            Files.copy(input, stagedPath);
+          }
+          logger.trace("Written file [{}]", stagedPath);
+        }
+      }));
+
+      swapDirectories(stagingDir, target);
+
+      final int fileCount = (int) entries.stream().filter(e -> !e.isDirectory()).count();
+      logger.debug("Successfully unpacked artifact file [{}] onto [{}]: {} files, {} unchanged",
+          archive, target, fileCount, reused.sum());
+
+      event.end();
+      if (event.shouldCommit()) {
+        event.archive = archive.toString();
+        event.targetDir = target.toString();
+        event.size = archive.length();
+        event.fileCount = fileCount;
+        event.unchangedFileCount = reused.sum();
+        event.commit();
+      }
+    } catch (UncheckedIOException e) {
+      logger.error("Failed to extract files from archive [{}].", archive);
+      FileUtils.deleteQuietly(stagingDir.toFile());
+      throw e.getCause();
+    } catch (IOException | RuntimeException e) {
+      logger.error("Failed to extract files from archive [{}].", archive);
+      FileUtils.deleteQuietly(stagingDir.toFile());
+      throw e;
+    }
+  }
+
+  private static Path resolveEntry(final Path dir, final String relativePath) throws IOException {
+    final Path result = dir.resolve(relativePath).normalize();
+    if (!result.startsWith(dir)) {
+      throw new IOException(
+          MessageFormat.format("Archive entry [{0}] is outside of the target directory",
+              relativePath));
+    }
+    return result;
+  }
+
+  private static boolean isUnchanged(final ZipEntry entry, final Path existingPath)
+      throws IOException {
+    if (entry.getCrc() == -1 || entry.getSize() == -1 || !Files.isRegularFile(existingPath)
+        || Files.size(existingPath) != entry.getSize()) {
+      return false;
+    }
+
+    final CRC32 crc = new CRC32();
+    try (InputStream input = Files.newInputStream(existingPath)) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        crc.update(buffer, 0, read);
+      }
+    }
+    return crc.getValue() == entry.getCrc();
+  }
+
+  /**
+   * Files are never modified in place, so the staged copy of an unchanged file can share its
+   * storage with the existing one.
+   */
+  private static void linkOrCopy(final Path existingPath, final Path stagedPath)
+      throws IOException {
+    try {
+      Files.createLink(stagedPath, existingPath);
+    } catch (IOException | UnsupportedOperationException e) {
+      Files.copy(existingPath, stagedPath, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+  }
+
+  /**
+   * Replaces the target directory with the staging directory. The target directory is first moved
+   * aside, so it briefly does not exist; it is restored if the staging directory cannot be moved.
+   */
+  private static void swapDirectories(final Path stagingDir, final Path target)
+      throws IOException {
+    if (!Files.exists(target)) {
+      Files.move(stagingDir, target, StandardCopyOption.ATOMIC_MOVE);
+      return;
+    }
+
+    final Path previousDir =
+        stagingDir.resolveSibling(stagingDir.getFileName().toString() + ".previous");
+    Files.move(target, previousDir, StandardCopyOption.ATOMIC_MOVE);
+    try {
+      Files.move(stagingDir, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      Files.move(previousDir, target, StandardCopyOption.ATOMIC_MOVE);
+      throw e;
+    }
+    FileUtils.deleteQuietly(previousDir.toFile());
+  }
 }
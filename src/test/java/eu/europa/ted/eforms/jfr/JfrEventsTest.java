@@ -0,0 +1,79 @@
+package eu.europa.ted.eforms.jfr;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.getFieldsJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import eu.europa.ted.eforms.NoticeDocument;
+import eu.europa.ted.eforms.sdk.repository.SdkCodelistRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class JfrEventsTest {
+  private static final Path FIELDS_JSON = getFieldsJson();
+
+  @TempDir
+  Path tempDir;
+
+  private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+    return events.stream()
+        .filter(e -> e.getEventType().getName().equals(name))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void testEvents() throws Exception {
+    final Path dump = tempDir.resolve("recording.jfr");
+
+    try (Recording recording = new Recording()) {
+      recording.enable(SdkRepositoryLoadEvent.class);
+      recording.enable(GenericodeParseEvent.class);
+      recording.enable(XPathParseEvent.class).withThreshold(Duration.ZERO);
+      recording.enable(NoticeParseEvent.class);
+      recording.start();
+
+      new SdkNodeRepository("1.10", FIELDS_JSON);
+      new SdkCodelistRepository("1.10", Path.of("src", "test", "resources", "codelists"))
+          .get("accessibility");
+      XPathProcessor.parse("/*/cac:ProcurementProjectLot/cbc:ID");
+      new NoticeDocument("<ContractNotice><cbc:CustomizationID>eforms-sdk-1.10"
+          + "</cbc:CustomizationID></ContractNotice>");
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+    final List<RecordedEvent> loads = eventsNamed(events, "eu.europa.ted.eforms.SdkRepositoryLoad");
+    assertEquals(1, loads.size());
+    assertEquals("1.10", loads.get(0).getString("sdkVersion"));
+    assertEquals("SdkNodeRepository", loads.get(0).getString("repository"));
+    assertEquals(Files.size(FIELDS_JSON), loads.get(0).getLong("size"));
+    assertTrue(loads.get(0).getInt("entityCount") > 0);
+
+    final List<RecordedEvent> codelists =
+        eventsNamed(events, "eu.europa.ted.eforms.GenericodeParse");
+    assertEquals(1, codelists.size());
+    assertEquals("accessibility", codelists.get(0).getString("codelistId"));
+    assertTrue(codelists.get(0).getString("file").endsWith("accessibility.gc"));
+
+    final List<RecordedEvent> xpaths = eventsNamed(events, "eu.europa.ted.eforms.XPathParse");
+    assertEquals(1, xpaths.size());
+    assertEquals(3, xpaths.get(0).getInt("stepCount"));
+
+    final List<RecordedEvent> notices = eventsNamed(events, "eu.europa.ted.eforms.NoticeParse");
+    assertEquals(1, notices.size());
+    assertEquals("ContractNotice", notices.get(0).getString("rootElement"));
+  }
+}
@@ -0,0 +1,88 @@
+package eu.europa.ted.eforms.metrics;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.getFieldsJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.sdk.repository.SdkCodelistRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+
+class MetricsTest {
+  private static final Path FIELDS_JSON = getFieldsJson();
+
+  /**
+   * Records each measurement as "type name tags", e.g. "count eforms.sdk.codelist.cache [...]".
+   */
+  private static class RecordingRecorder implements MetricsRecorder {
+    final List<String> measurements = new ArrayList<>();
+
+    @Override
+    public synchronized void count(String name, long amount, String... tags) {
+      measurements.add("count " + name + " " + Arrays.toString(tags));
+    }
+
+    @Override
+    public synchronized void recordTime(String name, long nanos, String... tags) {
+      assertTrue(nanos >= 0);
+      measurements.add("time " + name + " " + Arrays.toString(tags));
+    }
+
+    @Override
+    public synchronized void gauge(String name, double value, String... tags) {
+      measurements.add("gauge " + name + " " + Arrays.toString(tags) + " " + (long) value);
+    }
+
+    synchronized List<String> named(String name) {
+      return measurements.stream()
+          .filter(m -> m.contains(" " + name + " "))
+          .collect(Collectors.toList());
+    }
+  }
+
+  @AfterEach
+  void resetRecorder() {
+    Metrics.setRecorder(null);
+  }
+
+  @Test
+  void testDisabledByDefault() {
+    assertFalse(Metrics.isEnabled());
+    assertEquals(0, Metrics.startTimer());
+    assertEquals(MetricsRecorder.NONE, Metrics.getRecorder());
+  }
+
+  @Test
+  void testRecordedMeasurements() throws InstantiationException {
+    RecordingRecorder recorder = new RecordingRecorder();
+    Metrics.setRecorder(recorder);
+    assertTrue(Metrics.isEnabled());
+
+    XPathProcessor.parse("/*/cac:ProcurementProjectLot/cbc:ID");
+    assertEquals(List.of("time eforms.xpath.parse []"), recorder.named(MetricNames.XPATH_PARSE));
+
+    SdkNodeRepository nodes = new SdkNodeRepository("1.10", FIELDS_JSON);
+    assertEquals(List.of(
+        "time eforms.sdk.json.load [sdkVersion, 1.10, repository, SdkNodeRepository]"),
+        recorder.named(MetricNames.SDK_JSON_LOAD));
+    assertEquals(List.of("gauge eforms.sdk.entities [sdkVersion, 1.10, repository, "
+        + "SdkNodeRepository] " + nodes.size()), recorder.named(MetricNames.SDK_ENTITIES));
+
+    SdkCodelistRepository codelists =
+        new SdkCodelistRepository("1.10", Path.of("src", "test", "resources", "codelists"));
+    codelists.get("accessibility");
+    codelists.get("accessibility");
+    assertEquals(List.of(
+        "count eforms.sdk.codelist.cache [sdkVersion, 1.10, result, miss]",
+        "count eforms.sdk.codelist.cache [sdkVersion, 1.10, result, hit]"),
+        recorder.named(MetricNames.SDK_CODELIST_CACHE));
+    assertEquals(1, recorder.named(MetricNames.SDK_CODELIST_LOAD).size());
+  }
+}
@@ -0,0 +1,167 @@
+package eu.europa.ted.eforms.privacy;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.newGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xml.sax.SAXException;
+import eu.europa.ted.eforms.NoticeDocument;
+import eu.europa.ted.eforms.sdk.index.SdkXPathTrieIndex;
+import eu.europa.ted.eforms.sdk.repository.SdkDataTypeRepository;
+
+class NoticePrivacyMaskerTest {
+  private static final String FIELDS_PRIVACY = fieldsPrivacy("est-val");
+
+  private static NoticePrivacyMasker masker;
+
+  @BeforeAll
+  static void createMasker() throws InstantiationException {
+    masker = new NoticePrivacyMasker(new SdkXPathTrieIndex(newGraph()),
+        SdkDataTypeRepository.createDefault());
+  }
+
+  private static String fieldsPrivacy(String... codes) {
+    StringBuilder result = new StringBuilder("<ext:UBLExtensions><ext:UBLExtension>"
+        + "<ext:ExtensionContent><efext:EformsExtension>");
+    for (String code : codes) {
+      result.append("<efac:FieldsPrivacy>")
+          .append("<efbc:FieldIdentifierCode>").append(code).append("</efbc:FieldIdentifierCode>")
+          .append("<cbc:ReasonCode listName=\"non-publication-justification\">oth-int</cbc:ReasonCode>")
+          .append("<efbc:PublicationDate>2030-01-01Z</efbc:PublicationDate>")
+          .append("</efac:FieldsPrivacy>");
+    }
+    return result.append("</efext:EformsExtension></ext:ExtensionContent>"
+        + "</ext:UBLExtension></ext:UBLExtensions>").toString();
+  }
+
+  private static String lotWithDuration(String id, String lotPrivacy, String projectPrivacy) {
+    return "<cac:ProcurementProjectLot>" + lotPrivacy
+        + "<cbc:ID schemeName=\"Lot\">" + id + "</cbc:ID>"
+        + "<cac:ProcurementProject>" + projectPrivacy
+        + "<cac:PlannedPeriod><cbc:DurationMeasure unitCode=\"MONTH\">12</cbc:DurationMeasure>"
+        + "</cac:PlannedPeriod>"
+        + "<cac:RequestedTenderTotal><cbc:EstimatedOverallContractAmount currencyID=\"EUR\">"
+        + "1000</cbc:EstimatedOverallContractAmount></cac:RequestedTenderTotal>"
+        + "</cac:ProcurementProject></cac:ProcurementProjectLot>";
+  }
+
+  private static String lot(String id, String amount, boolean unpublished,
+      boolean privacyFirst) {
+    String value = "<cac:RequestedTenderTotal><cbc:EstimatedOverallContractAmount currencyID=\"EUR\">"
+        + amount + "</cbc:EstimatedOverallContractAmount></cac:RequestedTenderTotal>";
+    String privacy = unpublished ? FIELDS_PRIVACY : "";
+    return "<cac:ProcurementProjectLot><cbc:ID schemeName=\"Lot\">" + id + "</cbc:ID>"
+        + "<cac:ProcurementProject><cbc:Name>Lot " + id + "</cbc:Name>"
+        + (privacyFirst ? privacy + value : value + privacy)
+        + "</cac:ProcurementProject></cac:ProcurementProjectLot>";
+  }
+
+  private static String notice(String... lots) {
+    return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<ContractNotice xmlns=\"urn:oasis:names:specification:ubl:schema:xsd:ContractNotice-2\""
+        + " xmlns:cac=\"urn:oasis:names:specification:ubl:schema:xsd:CommonAggregateComponents-2\""
+        + " xmlns:cbc=\"urn:oasis:names:specification:ubl:schema:xsd:CommonBasicComponents-2\""
+        + " xmlns:ext=\"urn:oasis:names:specification:ubl:schema:xsd:CommonExtensionComponents-2\""
+        + " xmlns:efac=\"http://data.europa.eu/p27/eforms-ubl-extension-aggregate-components/1\""
+        + " xmlns:efbc=\"http://data.europa.eu/p27/eforms-ubl-extension-basic-components/1\""
+        + " xmlns:efext=\"http://data.europa.eu/p27/eforms-ubl-extensions/1\">"
+        + "<cbc:CustomizationID>eforms-sdk-1.10</cbc:CustomizationID>"
+        + "<cbc:SubTypeCode listName=\"notice-subtype\">16</cbc:SubTypeCode>"
+        + String.join("", lots)
+        + "</ContractNotice>";
+  }
+
+  @Test
+  void testMask() throws XMLStreamException, ParserConfigurationException, SAXException,
+      IOException {
+    String masked = masker.mask(notice(lot("LOT-0001", "1000", true, true),
+        lot("LOT-0002", "2000", false, true), lot("LOT-0003", "3000", true, false)));
+
+    assertFalse(masked.contains(">1000<"));
+    assertTrue(masked.contains(">2000<"));
+    assertFalse(masked.contains(">3000<"));
+    assertTrue(masked.contains(
+        "<cbc:EstimatedOverallContractAmount currencyID=\"EUR\">-1</cbc:EstimatedOverallContractAmount>"));
+    assertTrue(masked.contains("<efbc:FieldIdentifierCode>est-val</efbc:FieldIdentifierCode>"));
+    assertTrue(masked.contains("<cbc:Name>Lot LOT-0001</cbc:Name>"));
+
+    // The masked copy is still a well-formed notice.
+    assertEquals("16", new NoticeDocument(masked).getNoticeSubType());
+  }
+
+  @Test
+  void testMaskByPrivacyCode() throws XMLStreamException {
+    String masked = masker.mask(
+        notice(lotWithDuration("LOT-0001", fieldsPrivacy("dur-lot"), "")));
+    assertTrue(masked.contains("<cbc:DurationMeasure unitCode=\"MONTH\">-1</cbc:DurationMeasure>"));
+    assertTrue(masked.contains(">1000<"));
+
+    masked = masker.mask(notice(lotWithDuration("LOT-0001", "", fieldsPrivacy("est-val"))));
+    assertTrue(masked.contains(">12<"));
+    assertFalse(masked.contains(">1000<"));
+
+    masked = masker.mask(notice(
+        lotWithDuration("LOT-0001", fieldsPrivacy("dur-lot"), fieldsPrivacy("est-val"))));
+    assertFalse(masked.contains(">12<"));
+    assertFalse(masked.contains(">1000<"));
+
+    // A privacy code that withholds none of the fields of the lot
+    masked = masker.mask(notice(lotWithDuration("LOT-0001", "", fieldsPrivacy("win-cho"))));
+    assertTrue(masked.contains(">12<"));
+    assertTrue(masked.contains(">1000<"));
+  }
+
+  @Test
+  void testMaskBySiblingFieldsPrivacy() throws XMLStreamException {
+    // The efac:FieldsPrivacy of BT-36-Lot is in the lot, next to the cac:ProcurementProject of
+    // the duration, and applies only to the lot that contains it.
+    String masked = masker.mask(notice(lotWithDuration("LOT-0001", "", ""),
+        lotWithDuration("LOT-0002", fieldsPrivacy("dur-lot"), "")));
+    assertEquals(1, masked.split(">12<", -1).length - 1);
+    assertEquals(1, masked.split(">-1<", -1).length - 1);
+    assertTrue(masked.indexOf(">12<") < masked.indexOf("LOT-0002"));
+    assertTrue(masked.indexOf(">-1<") > masked.indexOf("LOT-0002"));
+
+    // The privacy code in the efac:FieldsPrivacy of the duration's parent element is not the one
+    // of BT-36-Lot.
+    masked = masker.mask(notice(lotWithDuration("LOT-0001", "", fieldsPrivacy("dur-lot"))));
+    assertTrue(masked.contains(">12<"));
+  }
+
+  @Test
+  void testNothingToMask() throws XMLStreamException, IOException {
+    String notice = notice(lot("LOT-0001", "1000", false, true));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] input = notice.getBytes(StandardCharsets.UTF_8);
+    assertEquals(0, masker.mask(() -> new ByteArrayInputStream(input), output));
+    assertTrue(new String(output.toByteArray(), StandardCharsets.UTF_8).contains(">1000<"));
+  }
+
+  @Test
+  void testMaskFile(@TempDir Path tempDir) throws XMLStreamException, IOException {
+    Path noticeFile = tempDir.resolve("notice.xml");
+    Files.writeString(noticeFile, notice(lot("LOT-0001", "1000", true, false),
+        lot("LOT-0002", "2000", true, true)));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertEquals(2, masker.mask(noticeFile, output));
+
+    String masked = new String(output.toByteArray(), StandardCharsets.UTF_8);
+    for (String amount : List.of("1000", "2000")) {
+      assertFalse(masked.contains(">" + amount + "<"), amount);
+    }
+  }
+}
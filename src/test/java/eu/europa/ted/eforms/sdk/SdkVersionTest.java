@@ -2,6 +2,7 @@ package eu.europa.ted.eforms.sdk;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -76,4 +77,25 @@ public class SdkVersionTest {
     assert(new SdkVersion("1.2.3").compareTo(new SdkVersion("1.2.3-rc.3")) > 0);
     assert(new SdkVersion("2.0.0").compareTo(new SdkVersion("2.0.0-alpha.1")) > 0);
   }
+
+  @Test
+  void testOf() {
+    SdkVersion version = SdkVersion.of("1.2.3");
+    assertSame(version, SdkVersion.of("1.2.3"));
+    assertEquals(new SdkVersion("1.2.3"), version);
+    assertEquals(new SdkVersion("eforms-sdk-1.2.3").hashCode(), version.hashCode());
+
+    assertEquals(1, version.getMajorNumber());
+    assertEquals(2, version.getMinorNumber());
+    assertEquals(3, version.getPatchNumber());
+    assertEquals(0, SdkVersion.of("1.2").getPatchNumber());
+  }
+
+  @Test
+  void testCompareAcrossMajorAndMinor() {
+    assert(new SdkVersion("1.10.0").compareTo(new SdkVersion("1.9.5")) > 0);
+    assert(new SdkVersion("2.0.0-alpha.1").compareTo(new SdkVersion("1.13")) > 0);
+    assert(new SdkVersion("1.2-SNAPSHOT").compareTo(new SdkVersion("1.3.0")) < 0);
+    assertEquals(0, new SdkVersion("1.2.3").compareTo(SdkVersion.of("1.2.3")));
+  }
 }
@@ -0,0 +1,43 @@
+package eu.europa.ted.eforms.sdk;
+
+import java.nio.file.Path;
+import eu.europa.ted.eforms.sdk.index.SdkGraph;
+import eu.europa.ted.eforms.sdk.repository.SdkFieldRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+import eu.europa.ted.eforms.sdk.resource.PathResource;
+import eu.europa.ted.eforms.sdk.resource.SdkResourceLoader;
+
+/**
+ * The SDK in src/test/resources/eforms-sdk, shared by the tests.
+ */
+public final class TestSdk {
+  public static final Path SDK_ROOT_DIR = Path.of("src", "test", "resources", "eforms-sdk");
+  public static final String SDK_VERSION = "1.10";
+
+  private TestSdk() {}
+
+  public static Path getResourcePath(PathResource resource) {
+    return SdkResourceLoader.getResourceAsPath(SDK_VERSION, resource, SDK_ROOT_DIR);
+  }
+
+  public static Path getFieldsJson() {
+    return getResourcePath(SdkConstants.SdkResource.FIELDS_JSON);
+  }
+
+  public static SdkNodeRepository newNodeRepository() throws InstantiationException {
+    return new SdkNodeRepository(SDK_VERSION, getFieldsJson());
+  }
+
+  public static SdkFieldRepository newFieldRepository(SdkNodeRepository nodes)
+      throws InstantiationException {
+    return new SdkFieldRepository(SDK_VERSION, getFieldsJson(), nodes);
+  }
+
+  /**
+   * @return A graph of the nodes and fields of fields.json
+   */
+  public static SdkGraph newGraph() throws InstantiationException {
+    SdkNodeRepository nodes = newNodeRepository();
+    return new SdkGraph(nodes, newFieldRepository(nodes));
+  }
+}
@@ -0,0 +1,81 @@
+package eu.europa.ted.eforms.sdk.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import org.junit.jupiter.api.Test;
+
+class SdkComponentDescriptorTest {
+
+  static class Component {
+    final CharSequence value;
+
+    Component() {
+      this.value = "default";
+    }
+
+    Component(CharSequence value) {
+      if ("fail".equals(value)) {
+        throw new IllegalStateException("Failed on purpose");
+      }
+      if ("error".equals(value)) {
+        throw new AssertionError("Error on purpose");
+      }
+      this.value = value;
+    }
+  }
+
+  private final SdkComponentDescriptor<Component> descriptor =
+      new SdkComponentDescriptor<>("1", SdkComponentType.SCRIPT_GENERATOR, Component.class);
+
+  @Test
+  void testCreateInstance() throws InstantiationException {
+    assertEquals("default", descriptor.createInstance().value);
+    assertEquals("default", descriptor.createInstance((Object[]) null).value);
+    assertEquals("a", descriptor.createInstance("a").value);
+    assertEquals("b", descriptor.createInstance(new StringBuilder("b")).value.toString());
+    assertNull(descriptor.createInstance((Object) null).value);
+
+    // Same constructor, from the cache
+    assertNotSame(descriptor.createInstance("c"), descriptor.createInstance("c"));
+  }
+
+  @Test
+  void testCreateInstanceFailure() {
+    InstantiationException e =
+        assertThrows(InstantiationException.class, () -> descriptor.createInstance("fail"));
+    assertEquals(IllegalStateException.class, e.getCause().getClass());
+
+    assertThrows(InstantiationException.class, () -> descriptor.createInstance(1));
+
+    // Errors are not wrapped
+    assertThrows(AssertionError.class, () -> descriptor.createInstance("error"));
+  }
+
+  @Test
+  void testCreateInstanceAfterDeserialization() throws IOException, ClassNotFoundException,
+      InstantiationException {
+    descriptor.createInstance("a");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(descriptor);
+    }
+
+    try (ObjectInputStream input =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      @SuppressWarnings("unchecked")
+      SdkComponentDescriptor<Component> copy =
+          (SdkComponentDescriptor<Component>) input.readObject();
+      assertEquals(descriptor, copy);
+      assertEquals("a", copy.createInstance("a").value);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package eu.europa.ted.eforms.sdk.component;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -34,6 +35,28 @@ class SdkComponentFactoryTest {
     assertEquals("Subclass", implQualifierOther.testMethod());
   }
 
+  @Test
+  void testGetComponentCreator() throws InstantiationException {
+    MyComponentFactory factory = new MyComponentFactory();
+
+    SdkComponentCreator<TestComponent> creator =
+        factory.getComponentCreator("1.0", SdkComponentType.SCRIPT_GENERATOR, "B",
+            TestComponent.class);
+    assertEquals(ScriptGeneratorB.class, creator.create().getClass());
+    assertNotSame(creator.create(), creator.create());
+
+    // The implementation is resolved when the creator is requested
+    assertThrows(IllegalArgumentException.class, () ->
+        factory.getComponentCreator("2.0", SdkComponentType.SCRIPT_GENERATOR, TestComponent.class));
+
+    // So is its constructor, for the given parameter types
+    assertThrows(IllegalArgumentException.class, () -> factory.getComponentCreator("1.0",
+        SdkComponentType.SCRIPT_GENERATOR, "B", TestComponent.class, String.class));
+
+    // Arguments that do not match the constructor
+    assertThrows(InstantiationException.class, () -> creator.create("unexpected"));
+  }
+
   @Test
   void testComponentNotFound() throws InstantiationException {
     MyComponentFactory factory = new MyComponentFactory();
@@ -0,0 +1,84 @@
+package eu.europa.ted.eforms.sdk.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import eu.europa.ted.eforms.sdk.entity.v1.SdkFieldV1;
+
+class SdkComponentIndexTest {
+
+  @AfterEach
+  void clearProperties() {
+    System.clearProperty(SdkComponentIndex.USE_INDEX_PROPERTY);
+    System.clearProperty(SdkComponentIndex.PACKAGES_PROPERTY);
+  }
+
+  @Test
+  void testIndexMatchesClasspathScan() {
+    Set<Class<?>> indexed = new HashSet<>(SdkComponentIndex.findComponentClasses());
+
+    System.setProperty(SdkComponentIndex.USE_INDEX_PROPERTY, "false");
+    Set<Class<?>> scanned = new HashSet<>(SdkComponentIndex.findComponentClasses());
+
+    assertTrue(indexed.contains(SdkFieldV1.class));
+    assertTrue(indexed.contains(ScriptGeneratorSubclass.class));
+    assertEquals(scanned, indexed);
+  }
+
+  @Test
+  void testConfiguredPackages() {
+    System.setProperty(SdkComponentIndex.PACKAGES_PROPERTY, " eu.europa.ted.eforms.sdk.entity ");
+    List<Class<?>> indexed = SdkComponentIndex.findComponentClasses();
+
+    System.setProperty(SdkComponentIndex.USE_INDEX_PROPERTY, "false");
+    List<Class<?>> scanned = SdkComponentIndex.findComponentClasses();
+
+    assertEquals(8, indexed.size());
+    assertEquals(new HashSet<>(scanned), new HashSet<>(indexed));
+  }
+
+  @Test
+  void testComponentsNotInIndex(@TempDir Path tempDir) throws IOException {
+    Path source = tempDir.resolve("src").resolve("UnindexedComponent.java");
+    Path classes = Files.createDirectories(tempDir.resolve("classes"));
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, "package eu.europa.ted.eforms.unindexed;\n"
+        + "@eu.europa.ted.eforms.sdk.component.SdkComponent(versions = {\"1\"},"
+        + " componentType = eu.europa.ted.eforms.sdk.component.SdkComponentType.FIELD)\n"
+        + "public class UnindexedComponent {}\n");
+
+    // Compiled without the annotation processor, so not listed in an index
+    assertEquals(0, ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none",
+        "-classpath", System.getProperty("java.class.path"), "-d", classes.toString(),
+        source.toString()));
+
+    Thread thread = Thread.currentThread();
+    ClassLoader contextClassLoader = thread.getContextClassLoader();
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] {classes.toUri().toURL()}, contextClassLoader)) {
+      thread.setContextClassLoader(classLoader);
+
+      Set<String> found = SdkComponentIndex.findComponentClasses().stream()
+          .map(Class::getName)
+          .collect(Collectors.toSet());
+
+      assertTrue(found.contains("eu.europa.ted.eforms.unindexed.UnindexedComponent"));
+      assertTrue(found.contains(SdkFieldV1.class.getName()));
+    } finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.newFieldRepository;
+import static eu.europa.ted.eforms.sdk.TestSdk.newNodeRepository;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.sdk.repository.SdkFieldRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+
+class SdkGraphTest {
+  private static SdkNodeRepository nodes;
+  private static SdkFieldRepository fields;
+  private static SdkGraph graph;
+
+  @BeforeAll
+  static void loadRepositories() throws InstantiationException {
+    nodes = newNodeRepository();
+    fields = newFieldRepository(nodes);
+    graph = new SdkGraph(nodes, fields);
+  }
+
+  @Test
+  void testOrdinals() {
+    assertEquals(nodes.size(), graph.getNodeCount());
+    assertEquals(fields.size(), graph.getFieldCount());
+
+    for (int node = 0; node < graph.getNodeCount(); node++) {
+      assertEquals(node, graph.getNodeOrdinal(graph.getNodeId(node)));
+      assertTrue(graph.getNodeParent(node) < node);
+    }
+    for (int field = 0; field < graph.getFieldCount(); field++) {
+      assertEquals(field, graph.getFieldOrdinal(graph.getFieldId(field)));
+    }
+
+    assertEquals(0, graph.getNodeOrdinal("ND-Root"));
+    assertEquals(SdkGraph.NONE, graph.getNodeOrdinal("ND-Unknown"));
+    assertEquals(SdkGraph.NONE, graph.getFieldOrdinal("BT-Unknown"));
+  }
+
+  @Test
+  void testAncestry() {
+    int scope = graph.getNodeOrdinal("ND-LotProcurementScope");
+
+    int[] ancestry = graph.getNodeAncestry(scope);
+    String[] ancestryIds =
+        Arrays.stream(ancestry).mapToObj(graph::getNodeId).toArray(String[]::new);
+
+    assertArrayEquals(nodes.get("ND-LotProcurementScope").getAncestry().toArray(), ancestryIds);
+    assertEquals(3, graph.getNodeAncestryLength(scope));
+    assertEquals(graph.getNodeOrdinal("ND-Lot"), graph.getNodeAncestor(scope, 1));
+    assertEquals(SdkGraph.NONE, graph.getNodeParent(graph.getNodeOrdinal("ND-Root")));
+    assertTrue(graph.isNodeRepeatable(graph.getNodeOrdinal("ND-Lot")));
+  }
+
+  @Test
+  void testFieldLinks() {
+    int amount = graph.getFieldOrdinal("BT-27-Lot");
+    int currency = graph.getFieldOrdinal("BT-27-Lot-Currency");
+
+    assertEquals(graph.getNodeOrdinal("ND-LotProcurementScope"), graph.getFieldParentNode(amount));
+    assertArrayEquals(new int[] {currency}, graph.getFieldAttributes(amount));
+    assertEquals(amount, graph.getFieldAttributeOf(currency));
+    assertEquals(SdkGraph.NONE, graph.getFieldAttributeOf(amount));
+
+    assertTrue(graph.hasPrivacy(amount));
+    assertFalse(graph.hasPrivacy(currency));
+    assertEquals("BT-195(BT-27)-Lot", graph.getFieldId(graph.getPrivacyCodeField(amount)));
+    assertEquals("BT-197(BT-27)-Lot", graph.getFieldId(graph.getJustificationCodeField(amount)));
+    assertEquals("BT-196(BT-27)-Lot",
+        graph.getFieldId(graph.getJustificationDescriptionField(amount)));
+    assertEquals("BT-198(BT-27)-Lot", graph.getFieldId(graph.getPublicationDateField(amount)));
+    assertEquals(SdkGraph.NONE, graph.getPrivacyCodeField(currency));
+  }
+
+  @Test
+  void testFieldSets() {
+    int lot = graph.getNodeOrdinal("ND-Lot");
+
+    assertEquals(List.of("BT-137-Lot"), graph.toFieldIds(graph.getChildFields(lot)));
+
+    BitSet descendants = graph.getDescendantFields(lot);
+    assertEquals(13, descendants.cardinality());
+    assertTrue(descendants.get(graph.getFieldOrdinal("BT-198(BT-27)-Lot")));
+    assertFalse(descendants.get(graph.getFieldOrdinal("BT-21-Part")));
+
+    BitSet set = graph.toFieldSet(List.of("BT-21-Lot", "BT-21-Part", "BT-Unknown"));
+    assertEquals(List.of("BT-21-Lot", "BT-21-Part"), graph.toFieldIds(set));
+
+    assertEquals(List.of("BT-27-Lot", "BT-36-Lot"),
+        graph.toFieldIds(graph.getFieldsWithPrivacy()));
+  }
+}
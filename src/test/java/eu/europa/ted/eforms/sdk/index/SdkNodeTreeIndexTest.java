@@ -0,0 +1,80 @@
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.newGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SdkNodeTreeIndexTest {
+  private static SdkGraph graph;
+  private static SdkNodeTreeIndex index;
+
+  @BeforeAll
+  static void buildIndex() throws InstantiationException {
+    graph = newGraph();
+    index = new SdkNodeTreeIndex(graph);
+  }
+
+  private static int node(String id) {
+    return graph.getNodeOrdinal(id);
+  }
+
+  private static int field(String id) {
+    return graph.getFieldOrdinal(id);
+  }
+
+  @Test
+  void testDepth() {
+    assertEquals(0, index.getDepth(node("ND-Root")));
+    assertEquals(2, index.getDepth(node("ND-LotProcurementScope")));
+    assertEquals(3, index.getDepth(node("ND-LotValueUnpublish")));
+  }
+
+  @Test
+  void testIsAncestor() {
+    assertTrue(index.isAncestor("ND-Root", "ND-LotValueUnpublish"));
+    assertTrue(index.isAncestor("ND-Lot", "ND-LotProcurementScope"));
+    assertFalse(index.isAncestor("ND-Lot", "ND-Lot"));
+    assertTrue(index.isAncestorOrSelf(node("ND-Lot"), node("ND-Lot")));
+    assertFalse(index.isAncestor("ND-Part", "ND-LotProcurementScope"));
+    assertFalse(index.isAncestor("ND-LotProcurementScope", "ND-Lot"));
+    assertFalse(index.isAncestor("ND-Unknown", "ND-Lot"));
+  }
+
+  @Test
+  void testLowestCommonAncestor() {
+    assertEquals("ND-Lot", index.getLowestCommonAncestor("ND-Lot", "ND-LotValueUnpublish"));
+    assertEquals("ND-Root",
+        index.getLowestCommonAncestor("ND-LotValueUnpublish", "ND-PartProcurementScope"));
+    assertEquals("ND-LotProcurementScope",
+        index.getLowestCommonAncestor("ND-LotProcurementScope", "ND-LotProcurementScope"));
+    assertNull(index.getLowestCommonAncestor("ND-Lot", "ND-Unknown"));
+
+    assertEquals("ND-Lot", index.getFieldsLowestCommonAncestor("BT-137-Lot", "BT-27-Lot"));
+    assertEquals("ND-Root", index.getFieldsLowestCommonAncestor("BT-21-Lot", "BT-21-Part"));
+  }
+
+  @Test
+  void testAncestorAtDistance() {
+    int unpublish = node("ND-LotValueUnpublish");
+
+    assertEquals(unpublish, index.getAncestorAtDistance(unpublish, 0));
+    assertEquals(node("ND-LotProcurementScope"), index.getAncestorAtDistance(unpublish, 1));
+    assertEquals(node("ND-Root"), index.getAncestorAtDistance(unpublish, 3));
+    assertEquals(SdkGraph.NONE, index.getAncestorAtDistance(unpublish, 4));
+  }
+
+  @Test
+  void testNearestRepeatingAncestor() {
+    assertEquals(node("ND-Lot"), index.getNearestRepeatingAncestor(node("ND-LotValueUnpublish")));
+    assertEquals(node("ND-Lot"), index.getNearestRepeatingAncestor(node("ND-Lot")));
+    assertEquals(SdkGraph.NONE, index.getNearestRepeatingAncestor(node("ND-Root")));
+
+    assertEquals(node("ND-Part"), index.getFieldNearestRepeatingAncestor(field("BT-21-Part")));
+    assertTrue(index.isFieldUnder(field("BT-198(BT-27)-Lot"), node("ND-Lot")));
+    assertFalse(index.isFieldUnder(field("BT-21-Part"), node("ND-Lot")));
+  }
+}
@@ -0,0 +1,71 @@
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.newGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.xpath.XPathProcessor;
+
+class SdkRelativeXPathIndexTest {
+  private static SdkGraph graph;
+
+  @BeforeAll
+  static void buildGraph() throws InstantiationException {
+    graph = newGraph();
+  }
+
+  @Test
+  void testMatchesXPathProcessor() {
+    SdkRelativeXPathIndex index = new SdkRelativeXPathIndex(graph);
+
+    for (int field = 0; field < graph.getFieldCount(); field++) {
+      for (int node = 0; node < graph.getNodeCount(); node++) {
+        assertEquals(
+            XPathProcessor.contextualize(graph.getNode(node).getXpathAbsolute(),
+                graph.getField(field).getXpathAbsolute()),
+            index.getFieldXPath(field, node));
+      }
+    }
+
+    assertEquals("cbc:Name", index.getFieldXPath("BT-21-Lot", "ND-LotProcurementScope"));
+    assertEquals("cac:ProcurementProject", index.getNodeXPath("ND-LotProcurementScope", "ND-Lot"));
+  }
+
+  @Test
+  void testMemoization() {
+    SdkRelativeXPathIndex index = new SdkRelativeXPathIndex(graph);
+    assertEquals(0, index.getComputedCount());
+
+    String first = index.getFieldXPath("BT-27-Lot", "ND-Lot");
+    assertSame(first, index.getFieldXPath("BT-27-Lot", "ND-Lot"));
+    assertEquals(1, index.getComputedCount());
+
+    index.precompute();
+    assertEquals(index.getSlotCount(), index.getComputedCount());
+  }
+
+  @Test
+  void testSnapshot() throws IOException {
+    SdkRelativeXPathIndex index = new SdkRelativeXPathIndex(graph).precompute();
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    index.writeTo(output);
+
+    SdkRelativeXPathIndex restored =
+        SdkRelativeXPathIndex.readFrom(new ByteArrayInputStream(output.toByteArray()), graph);
+    assertEquals(index.getSlotCount(), restored.getComputedCount());
+    assertEquals(index.getDistinctCount(), restored.getDistinctCount());
+    assertEquals(index.getFieldXPath("BT-21-Part", "ND-Part"),
+        restored.getFieldXPath("BT-21-Part", "ND-Part"));
+
+    byte[] corrupted = output.toByteArray();
+    corrupted[4] ^= 1;
+    assertThrows(IllegalArgumentException.class,
+        () -> SdkRelativeXPathIndex.readFrom(new ByteArrayInputStream(corrupted), graph));
+  }
+}
@@ -0,0 +1,84 @@
+package eu.europa.ted.eforms.sdk.index;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.newGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SdkXPathTrieIndexTest {
+  private static SdkGraph graph;
+  private static SdkXPathTrieIndex index;
+
+  @BeforeAll
+  static void buildIndex() throws InstantiationException {
+    graph = newGraph();
+    index = new SdkXPathTrieIndex(graph);
+  }
+
+  @Test
+  void testFindFields() {
+    assertEquals(List.of("OPP-070-notice"), index.findFieldIds("/ContractNotice/cbc:SubTypeCode"));
+    assertEquals(List.of("BT-137-Lot", "BT-137-Part"),
+        index.findFieldIds("/ContractNotice/cac:ProcurementProjectLot/cbc:ID"));
+    assertEquals(List.of("BT-27-Lot-Currency"), index.findFieldIds(
+        "/ContractNotice/cac:ProcurementProjectLot/cac:ProcurementProject/cac:RequestedTenderTotal/cbc:EstimatedOverallContractAmount/@currencyID"));
+
+    assertEquals(Collections.emptyList(), index.findFieldIds("/ContractNotice/cbc:Unknown"));
+    assertEquals(Collections.emptyList(), index.findFieldIds("/ContractNotice"));
+  }
+
+  @Test
+  void testFindNodes() {
+    assertEquals(List.of("ND-Root"), index.findNodeIds("/PriorInformationNotice"));
+    assertEquals(List.of("ND-Lot", "ND-Part"),
+        index.findNodeIds("/ContractNotice/cac:ProcurementProjectLot"));
+  }
+
+  @Test
+  void testDiscriminators() {
+    List<List<String>> lot = index.getNodeDiscriminators(graph.getNodeOrdinal("ND-Lot"));
+    assertEquals(List.of(List.of(), List.of("[cbc:ID/@schemeName='Lot']")), lot);
+
+    List<List<String>> part =
+        index.getFieldDiscriminators(graph.getFieldOrdinal("BT-137-Part"));
+    assertEquals(List.of(List.of(), List.of("[cbc:ID/@schemeName='Part']"), List.of()), part);
+  }
+
+  @Test
+  void testCursor() {
+    SdkXPathTrieIndex.Cursor cursor = index.newCursor();
+
+    cursor.push("ContractNotice");
+    assertEquals(graph.getNodeOrdinal("ND-Root"), cursor.getNodes().nextSetBit(0));
+
+    cursor.push("cac:ProcurementProjectLot");
+    cursor.push("cac:ProcurementProject");
+    assertEquals(2, cursor.getNodes().cardinality());
+
+    cursor.push("cbc:Name");
+    assertEquals(List.of("BT-21-Lot", "BT-21-Part"), graph.toFieldIds(cursor.getFields()));
+
+    cursor.push("cbc:Unknown");
+    cursor.push("cbc:Deeper");
+    assertFalse(cursor.isOnPath());
+    assertTrue(cursor.getFields().isEmpty());
+    assertEquals(6, cursor.getDepth());
+
+    cursor.pop();
+    cursor.pop();
+    cursor.pop();
+    cursor.push("cac:RequestedTenderTotal");
+    cursor.push("cbc:EstimatedOverallContractAmount");
+    assertEquals(List.of("BT-27-Lot"), graph.toFieldIds(cursor.getFields()));
+    assertTrue(cursor.isOnPath());
+
+    cursor.reset();
+    assertEquals(0, cursor.getDepth());
+    assertThrows(IllegalStateException.class, cursor::pop);
+  }
+}
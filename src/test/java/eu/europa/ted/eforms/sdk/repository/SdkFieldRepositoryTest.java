@@ -0,0 +1,64 @@
+package eu.europa.ted.eforms.sdk.repository;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static eu.europa.ted.eforms.sdk.TestSdk.getFieldsJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.sdk.entity.SdkField;
+import eu.europa.ted.eforms.xpath.XPathInfo;
+
+class SdkFieldRepositoryTest {
+  @Test
+  void testPrecomputeXpathInfo() throws InstantiationException {
+    Path fieldsJson = getFieldsJson();
+    SdkNodeRepository nodes = new SdkNodeRepository(SDK_VERSION, fieldsJson);
+    SdkFieldRepository fields = new SdkFieldRepository(SDK_VERSION, fieldsJson, nodes, true);
+
+    assertFalse(fields.isEmpty());
+    for (SdkField field : fields.values()) {
+      XPathInfo xpathInfo = field.getXpathInfo();
+      assertNotNull(xpathInfo, field.getId());
+      assertSame(xpathInfo, field.getXpathInfo(), field.getId());
+    }
+  }
+
+  @Test
+  void testConcurrentLazyXpathInfo() throws Exception {
+    Path fieldsJson = getFieldsJson();
+    SdkNodeRepository nodes = new SdkNodeRepository(SDK_VERSION, fieldsJson);
+    SdkFieldRepository fields = new SdkFieldRepository(SDK_VERSION, fieldsJson, nodes);
+
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Callable<List<XPathInfo>>> tasks = IntStream.range(0, threads)
+          .mapToObj((int i) -> (Callable<List<XPathInfo>>) () -> fields.values().stream()
+              .map(SdkField::getXpathInfo)
+              .collect(Collectors.toList()))
+          .collect(Collectors.toList());
+
+      List<Future<List<XPathInfo>>> results = executor.invokeAll(tasks);
+      List<XPathInfo> expected = results.get(0).get();
+      for (Future<List<XPathInfo>> result : results) {
+        List<XPathInfo> actual = result.get();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+          assertSame(expected.get(i), actual.get(i));
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package eu.europa.ted.eforms.sdk.repository;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static eu.europa.ted.eforms.sdk.TestSdk.getResourcePath;
+import static eu.europa.ted.eforms.sdk.TestSdk.newGraph;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.entity.SdkNoticeTypeDefinition;
+import eu.europa.ted.eforms.sdk.index.SdkGraph;
+
+class SdkNoticeTypeDefinitionRepositoryTest {
+  private static Path noticeTypesDir;
+  private static SdkGraph graph;
+
+  @BeforeAll
+  static void loadGraph() throws InstantiationException {
+    noticeTypesDir = getResourcePath(SdkConstants.SdkResource.NOTICE_TYPES);
+    graph = newGraph();
+  }
+
+  @Test
+  void testGet() {
+    SdkNoticeTypeDefinitionRepository repository =
+        new SdkNoticeTypeDefinitionRepository(SDK_VERSION, noticeTypesDir, graph);
+
+    SdkNoticeTypeDefinition definition = repository.get("16");
+    assertEquals("16", definition.getId());
+    assertEquals(List.of("OPP-070-notice", "BT-702(a)-notice", "BT-137-Part", "BT-21-Part"),
+        definition.getFieldIds());
+    assertEquals(List.of("ND-Part", "ND-Root", "ND-PartProcurementScope"),
+        definition.getNodeIds());
+
+    assertEquals(new HashSet<>(definition.getFieldIds()),
+        new HashSet<>(graph.toFieldIds(definition.getFields())));
+    assertTrue(definition.containsField(graph.getFieldOrdinal("BT-21-Part")));
+    assertFalse(definition.containsField(graph.getFieldOrdinal("BT-21-Lot")));
+    assertTrue(definition.containsNode(graph.getNodeOrdinal("ND-PartProcurementScope")));
+    assertFalse(definition.containsNode(graph.getNodeOrdinal("ND-Lot")));
+    assertFalse(definition.containsNode(SdkGraph.NONE));
+
+    assertSame(definition, repository.get("16"));
+    assertNull(repository.get("99"));
+    assertNull(repository.get("../notice-types/16"));
+    assertThrows(IllegalArgumentException.class, () -> repository.get(""));
+  }
+
+  @Test
+  void testLruEviction(@TempDir Path tempDir) throws IOException {
+    for (String id : List.of("1", "2", "3")) {
+      Files.copy(noticeTypesDir.resolve("16.json"), tempDir.resolve(id + ".json"));
+    }
+
+    SdkNoticeTypeDefinitionRepository repository =
+        new SdkNoticeTypeDefinitionRepository(SDK_VERSION, tempDir, graph, 2);
+
+    SdkNoticeTypeDefinition first = repository.get("1");
+    SdkNoticeTypeDefinition second = repository.get("2");
+    assertSame(first, repository.get("1"));
+
+    // "2" is now the least recently used, so it is the one evicted.
+    repository.get("3");
+    assertEquals(2, repository.getSize());
+    assertSame(first, repository.get("1"));
+    assertNotSame(second, repository.get("2"));
+
+    repository.clear();
+    assertEquals(0, repository.getSize());
+  }
+}
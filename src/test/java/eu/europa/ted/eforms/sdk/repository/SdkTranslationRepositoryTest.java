@@ -0,0 +1,67 @@
+package eu.europa.ted.eforms.sdk.repository;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static eu.europa.ted.eforms.sdk.TestSdk.getResourcePath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+
+class SdkTranslationRepositoryTest {
+  private static SdkTranslationRepository newRepository() {
+    return new SdkTranslationRepository(SDK_VERSION,
+        getResourcePath(SdkConstants.SdkResource.TRANSLATIONS));
+  }
+
+  @Test
+  void testGetLabel() {
+    SdkTranslationRepository repository = newRepository();
+
+    assertEquals(Set.of("el", "en", "fr"), repository.getLanguages());
+    assertEquals(Set.of(), repository.getLoadedLanguages());
+
+    assertEquals("Title", repository.getLabel("field|name|BT-21-Lot", "en"));
+    assertEquals("Part", repository.getLabel("group|name|GR-Part", "en"));
+    assertEquals("Titre", repository.getLabel("field|name|BT-21-Lot", "fr"));
+    assertEquals("Τίτλος", repository.getLabel("field|name|BT-21-Part", "el"));
+    assertEquals(Set.of("el", "en", "fr"), repository.getLoadedLanguages());
+
+    assertNull(repository.getLabel("field|name|BT-27-Lot", "fr"));
+    assertNull(repository.getLabel("field|name|BT-21-Part", "en"));
+    assertNull(repository.getLabel("field|name|Unknown", "en"));
+    assertNull(repository.getLabel("field|name|BT-21-Lot", "de"));
+    assertThrows(IllegalArgumentException.class,
+        () -> repository.getLabel("field|name|BT-21-Lot", ""));
+  }
+
+  @Test
+  void testSharedKeys() {
+    SdkTranslationRepository repository = newRepository();
+
+    assertEquals(SdkTranslationRepository.NONE, repository.getKeyOrdinal("field|name|BT-21-Lot"));
+
+    repository.getLabel("field|name|BT-21-Lot", "en");
+    assertEquals(5, repository.getKeyCount());
+    repository.getLabel("field|name|BT-21-Lot", "fr");
+    assertEquals(5, repository.getKeyCount());
+    repository.getLabel("field|name|BT-21-Lot", "el");
+    assertEquals(6, repository.getKeyCount());
+
+    int key = repository.getKeyOrdinal("field|name|BT-137-Lot");
+    assertEquals("Purpose Lot Identifier", repository.getLabel(key, "en"));
+    assertEquals("Identifiant du lot", repository.getLabel(key, "fr"));
+    assertNull(repository.getLabel(key, "el"));
+    assertNull(repository.getLabel(SdkTranslationRepository.NONE, "en"));
+  }
+
+  @Test
+  void testFallback() {
+    SdkTranslationRepository repository = newRepository();
+
+    assertEquals("Titre", repository.getLabel("field|name|BT-21-Lot", "fr", "en"));
+    assertEquals("Estimated Value", repository.getLabel("field|name|BT-27-Lot", "fr", "en"));
+    assertEquals("Estimated Value", repository.getLabel("field|name|BT-27-Lot", "de", "en"));
+  }
+}
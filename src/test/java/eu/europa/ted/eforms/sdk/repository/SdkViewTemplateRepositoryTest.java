@@ -0,0 +1,59 @@
+package eu.europa.ted.eforms.sdk.repository;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static eu.europa.ted.eforms.sdk.TestSdk.getResourcePath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+
+class SdkViewTemplateRepositoryTest {
+  private static SdkViewTemplateRepository newRepository() throws InstantiationException {
+    return new SdkViewTemplateRepository(SDK_VERSION,
+        getResourcePath(SdkConstants.SdkResource.VIEW_TEMPLATES_JSON));
+  }
+
+  @Test
+  void testIndex() throws InstantiationException {
+    SdkViewTemplateRepository repository = newRepository();
+
+    assertEquals(3, repository.size());
+    assertEquals("16.efx", repository.get("16").getFilename());
+    assertEquals("Summary view template", repository.get("summary").getDescription());
+    assertTrue(repository.getTemplatePath("16").endsWith(Path.of("view-templates", "16.efx")));
+    assertNull(repository.getTemplatePath("unknown"));
+  }
+
+  @Test
+  void testSourceAndHash() throws InstantiationException, IOException {
+    SdkViewTemplateRepository repository = newRepository();
+
+    String source = repository.getSource("16");
+    assertEquals(
+        new String(Files.readAllBytes(repository.getTemplatePath("16")), StandardCharsets.UTF_8),
+        source);
+    assertSame(source, repository.getSource("16"));
+
+    String hash = repository.getHash("16");
+    assertEquals(64, hash.length());
+    assertTrue(hash.matches("[0-9a-f]+"));
+    assertEquals(hash, newRepository().getHash("16"));
+    assertNotEquals(hash, repository.getHash("summary"));
+
+    // Same source, translated against another SDK version
+    assertNotEquals(hash, new SdkViewTemplateRepository("1.9",
+        getResourcePath(SdkConstants.SdkResource.VIEW_TEMPLATES_JSON)).getHash("16"));
+
+    assertNull(repository.getSource("unknown"));
+    assertNull(repository.getHash("unknown"));
+    assertThrows(RuntimeException.class, () -> repository.getSource("missing"));
+  }
+}
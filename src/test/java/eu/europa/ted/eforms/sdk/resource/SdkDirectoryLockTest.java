@@ -0,0 +1,63 @@
+package eu.europa.ted.eforms.sdk.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jooq.lambda.Unchecked;
+
+class SdkDirectoryLockTest {
+  @TempDir
+  Path rootDir;
+
+  @Test
+  void testLock() throws Exception {
+    final Path sdkDir = rootDir.resolve("1.10");
+    final Path lockFile = rootDir.resolve(".1.10.lock");
+    final CountDownLatch acquired = new CountDownLatch(1);
+
+    CompletableFuture<Void> other;
+    try (SdkDirectoryLock lock = SdkDirectoryLock.lock(sdkDir)) {
+      assertTrue(Files.exists(lockFile));
+
+      // The file is locked on behalf of the JVM
+      try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.WRITE)) {
+        assertThrows(OverlappingFileLockException.class, channel::tryLock);
+      }
+
+      other = CompletableFuture.runAsync(Unchecked.runnable(() -> {
+        try (SdkDirectoryLock otherLock = SdkDirectoryLock.lock(sdkDir)) {
+          acquired.countDown();
+        }
+      }));
+
+      assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+
+      // Another directory is not affected
+      try (SdkDirectoryLock otherDirLock = SdkDirectoryLock.lock(rootDir.resolve("1.9"))) {
+        assertEquals(1, acquired.getCount());
+      }
+    }
+
+    assertTrue(acquired.await(10, TimeUnit.SECONDS));
+    other.get();
+  }
+
+  @Test
+  void testLockReentry() throws Exception {
+    try (SdkDirectoryLock lock = SdkDirectoryLock.lock(rootDir.resolve("1.10"))) {
+      assertThrows(IllegalStateException.class,
+          () -> SdkDirectoryLock.lock(rootDir.resolve("1.10")));
+    }
+  }
+}
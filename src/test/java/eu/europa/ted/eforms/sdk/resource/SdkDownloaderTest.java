@@ -3,6 +3,15 @@ package eu.europa.ted.eforms.sdk.resource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -10,6 +19,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import eu.europa.ted.MavenTestSetup;
+import eu.europa.ted.eforms.sdk.SdkVersion;
 
 class SdkDownloaderTest extends MavenTestSetup {
   private static final Path SDK_ROOT_DIR = Path.of("target/eforms-sdk");
@@ -77,4 +87,94 @@ class SdkDownloaderTest extends MavenTestSetup {
     SdkDownloader.downloadSdk("1.1.3", SDK_ROOT_DIR);
     checkVersions("1.1.0", "1.1.3", "1.1.3");
   }
+
+  @Test
+  void testDownloadSdks() throws IOException {
+    Path rootDir = Path.of("target", "eforms-sdk-parallel");
+    List<SdkVersion> versions = List.of(SdkVersion.of("0.6"), SdkVersion.of("0.7"),
+        SdkVersion.of("1.0"), SdkVersion.of("1.0.2"), SdkVersion.of("0.6"), SdkVersion.of("9.9"));
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Map<SdkVersion, SdkDownloadResult> results =
+          SdkDownloader.downloadSdks(versions, rootDir, executor);
+
+      Assertions.assertEquals(5, results.size());
+      Assertions.assertEquals(SdkVersion.of("1.0.2"),
+          results.get(SdkVersion.of("1.0")).getResolvedVersion().orElse(null));
+      Assertions.assertEquals("0.7.3", Files.readString(rootDir.resolve("0.7").resolve("VERSION")));
+      Assertions.assertEquals("1.0.2", Files.readString(rootDir.resolve("1.0.2").resolve("VERSION")));
+
+      SdkDownloadResult missing = results.get(SdkVersion.of("9.9"));
+      Assertions.assertEquals(SdkDownloadResult.Status.FAILED, missing.getStatus());
+      Assertions.assertTrue(missing.getError().isPresent());
+
+      // Everything that succeeded is now up to date
+      results = SdkDownloader.downloadSdks(versions, rootDir, executor);
+      results.values().stream()
+          .filter(SdkDownloadResult::isSuccessful)
+          .forEach(r -> Assertions.assertEquals(SdkDownloadResult.Status.UP_TO_DATE, r.getStatus()));
+      Assertions.assertEquals(4, results.values().stream().filter(SdkDownloadResult::isSuccessful).count());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testDownloadSdkConcurrently() throws Exception {
+    Path rootDir = Path.of("target", "eforms-sdk-concurrent");
+    FileUtils.deleteDirectory(rootDir.toFile());
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Object>> futures = executor.invokeAll(Collections.nCopies(4, () -> {
+        SdkDownloader.downloadSdk("0.7", rootDir);
+        return null;
+      }));
+      for (Future<Object> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assertions.assertEquals("0.7.3", Files.readString(rootDir.resolve("0.7").resolve("VERSION")));
+    try (Stream<Path> files = Files.list(rootDir.resolve("0.7"))) {
+      Assertions.assertTrue(files.noneMatch(f -> f.getFileName().toString().endsWith(".tmp")));
+    }
+  }
+
+  @Test
+  void testDownloadSdkOffline() throws IOException {
+    Path rootDir = Path.of("target", "eforms-sdk-offline");
+    FileUtils.deleteDirectory(rootDir.toFile());
+
+    // Online: resolves the version range and caches it
+    SdkDownloader.downloadSdk("0.7", rootDir);
+    FileUtils.deleteDirectory(rootDir.resolve("0.7").toFile());
+
+    System.setProperty(SdkVersionRangeCache.OFFLINE_PROPERTY, "true");
+    try {
+      // The cached version range is used
+      Map<SdkVersion, SdkDownloadResult> results =
+          SdkDownloader.downloadSdks(List.of(SdkVersion.of("0.7")), rootDir);
+      SdkDownloadResult result = results.get(SdkVersion.of("0.7"));
+      Assertions.assertEquals(SdkDownloadResult.Status.DOWNLOADED, result.getStatus());
+      Assertions.assertEquals(SdkVersion.of("0.7.3"), result.getResolvedVersion().orElse(null));
+
+      // The local copy is trusted
+      results = SdkDownloader.downloadSdks(List.of(SdkVersion.of("0.7")), rootDir);
+      Assertions.assertEquals(SdkDownloadResult.Status.UP_TO_DATE,
+          results.get(SdkVersion.of("0.7")).getStatus());
+
+      // The directory of an exact patch version holds another patch version
+      FileUtils.copyDirectory(rootDir.resolve("0.7").toFile(), rootDir.resolve("0.7.2").toFile());
+      Assertions.assertThrows(IOException.class, () -> SdkDownloader.downloadSdk("0.7.2", rootDir));
+
+      // Nothing local and nothing cached
+      Assertions.assertThrows(IOException.class, () -> SdkDownloader.downloadSdk("0.6", rootDir));
+    } finally {
+      System.clearProperty(SdkVersionRangeCache.OFFLINE_PROPERTY);
+    }
+  }
 }
@@ -0,0 +1,128 @@
+package eu.europa.ted.eforms.sdk.resource;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_ROOT_DIR;
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static eu.europa.ted.eforms.sdk.TestSdk.getFieldsJson;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.SdkVersion;
+
+class SdkResourceCacheTest {
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testGet() throws IOException {
+    final SdkResourceCache cache = new SdkResourceCache();
+    final Path fieldsJson = getFieldsJson();
+    final byte[] expected = Files.readAllBytes(fieldsJson);
+
+    final ByteBuffer first =
+        cache.get(SdkVersion.of(SDK_VERSION), SdkConstants.SdkResource.FIELDS_JSON, null, SDK_ROOT_DIR);
+    final ByteBuffer second = cache.get(fieldsJson);
+
+    assertTrue(first.isReadOnly());
+    assertThrows(ReadOnlyBufferException.class, () -> first.put(0, (byte) 0));
+
+    // Each caller gets its own position
+    first.get(new byte[10]);
+    assertEquals(0, second.position());
+
+    assertEquals(1, cache.getEntryCount());
+    assertEquals(expected.length, cache.getSize());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+
+    try (InputStream input = cache.getAsStream(fieldsJson)) {
+      assertArrayEquals(expected, input.readAllBytes());
+    }
+  }
+
+  @Test
+  void testNewInputStream() throws IOException {
+    final Path fieldsJson = getFieldsJson();
+    final byte[] expected = Files.readAllBytes(fieldsJson);
+    final SdkResourceCache cache = SdkResourceCache.getDefault();
+    cache.clear();
+
+    try (InputStream input = SdkResourceCache.newInputStream(fieldsJson)) {
+      assertArrayEquals(expected, input.readAllBytes());
+    }
+    assertEquals(0, cache.getEntryCount());
+
+    System.setProperty(SdkResourceCache.ENABLED_PROPERTY, "true");
+    try (InputStream input = SdkResourceCache.newInputStream(fieldsJson)) {
+      assertArrayEquals(expected, input.readAllBytes());
+    } finally {
+      System.clearProperty(SdkResourceCache.ENABLED_PROPERTY);
+    }
+    assertEquals(1, cache.getEntryCount());
+    cache.clear();
+  }
+
+  @Test
+  void testInvalidate() throws IOException {
+    final SdkResourceCache cache = new SdkResourceCache();
+    final Path file = tempDir.resolve("sdk").resolve("codelists.json");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "{}");
+
+    assertEquals(2, cache.get(file).remaining());
+
+    // Replaced as a whole, as SdkDownloader does
+    final Path replacement = tempDir.resolve("replacement.json");
+    Files.writeString(replacement, "{ }");
+    Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+    assertEquals(2, cache.get(file).remaining());
+
+    cache.invalidate(file.getParent());
+    assertEquals(0, cache.getEntryCount());
+    assertEquals(0, cache.getSize());
+    assertEquals(3, cache.get(file).remaining());
+
+    cache.clear();
+    assertEquals(0, cache.getEntryCount());
+    assertThrows(NoSuchFileException.class, () -> cache.get(tempDir.resolve("missing.json")));
+  }
+
+  @Test
+  void testEviction() throws IOException {
+    final SdkResourceCache cache = new SdkResourceCache(10);
+    final Path a = Files.writeString(tempDir.resolve("a.json"), "aaaa");
+    final Path b = Files.writeString(tempDir.resolve("b.json"), "bbbb");
+    final Path c = Files.writeString(tempDir.resolve("c.json"), "cccc");
+    final Path large = Files.writeString(tempDir.resolve("large.json"), "01234567890");
+
+    cache.get(a);
+    cache.get(b);
+    cache.get(a);
+    cache.get(c);
+
+    // b was the least recently used
+    assertEquals(2, cache.getEntryCount());
+    assertEquals(8, cache.getSize());
+    final long misses = cache.getMissCount();
+    cache.get(a);
+    cache.get(c);
+    assertEquals(misses, cache.getMissCount());
+    cache.get(b);
+    assertEquals(misses + 1, cache.getMissCount());
+
+    // Read, but not cached
+    assertEquals(11, cache.get(large).remaining());
+    assertEquals(8, cache.getSize());
+  }
+}
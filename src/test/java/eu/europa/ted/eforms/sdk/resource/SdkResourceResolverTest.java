@@ -0,0 +1,116 @@
+package eu.europa.ted.eforms.sdk.resource;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_ROOT_DIR;
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static eu.europa.ted.eforms.sdk.TestSdk.getFieldsJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+import eu.europa.ted.eforms.sdk.SdkVersion;
+import eu.europa.ted.eforms.sdk.repository.SdkCodelistRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkFieldRepository;
+import eu.europa.ted.eforms.sdk.repository.SdkNodeRepository;
+
+class SdkResourceResolverTest {
+  private static final Path FIELDS_JSON = getFieldsJson();
+  private static final Path CODELISTS_DIR = Path.of("src", "test", "resources", "codelists");
+
+  @TempDir
+  static Path tempDir;
+
+  private static Path archive;
+
+  @BeforeAll
+  static void createArchive() throws IOException {
+    archive = tempDir.resolve("eforms-sdk-" + SDK_VERSION + ".jar");
+
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive));
+        Stream<Path> codelists = Files.list(CODELISTS_DIR)) {
+      addEntry(zip, "eforms-sdk/fields/fields.json", FIELDS_JSON);
+      for (Path codelist : (Iterable<Path>) codelists::iterator) {
+        addEntry(zip, "eforms-sdk/codelists/" + codelist.getFileName(), codelist);
+      }
+    }
+  }
+
+  private static void addEntry(ZipOutputStream zip, String name, Path file) throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    Files.copy(file, zip);
+    zip.closeEntry();
+  }
+
+  @Test
+  void testArchiveResolver() throws IOException, InstantiationException {
+    try (SdkResourceResolver resolver = new ArchiveSdkResourceResolver(archive)) {
+      Path fieldsJson = resolver.resolve(SdkConstants.SdkResource.FIELDS_JSON);
+
+      SdkNodeRepository nodes = new SdkNodeRepository(SDK_VERSION, fieldsJson);
+      SdkFieldRepository fields = new SdkFieldRepository(SDK_VERSION, fieldsJson, nodes);
+      assertNotNull(nodes.get("ND-Root"));
+      assertEquals("ND-Lot", fields.get("BT-137-Lot").getParentNodeId());
+
+      SdkCodelistRepository codelists = new SdkCodelistRepository(SDK_VERSION,
+          resolver.resolve(SdkConstants.SdkResource.CODELISTS));
+      assertEquals("accessibility", codelists.get("accessibility").getCodelistId());
+
+      assertTrue(resolver.exists(SdkConstants.SdkResource.CODELISTS, "criterion.gc"));
+      assertFalse(resolver.exists(SdkConstants.SdkResource.CODELISTS, "unknown.gc"));
+      try (OutputStream out = OutputStream.nullOutputStream()) {
+        assertTrue(resolver
+            .getResourceAsStream(SdkConstants.SdkResource.CODELISTS, "criterion.gc")
+            .transferTo(out) > 0);
+      }
+    }
+  }
+
+  @Test
+  void testArchiveWithoutSdk() throws IOException {
+    Path other = tempDir.resolve("other.jar");
+    try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(other))) {
+      addEntry(zip, "fields/fields.json", FIELDS_JSON);
+    }
+
+    assertThrows(IOException.class, () -> new ArchiveSdkResourceResolver(other));
+  }
+
+  @Test
+  void testDirectoryResolver() throws IOException {
+    try (SdkResourceResolver resolver = new DirectorySdkResourceResolver(
+        SdkVersion.of(SDK_VERSION), SDK_ROOT_DIR)) {
+      assertTrue(Files.isSameFile(FIELDS_JSON,
+          resolver.resolve(SdkConstants.SdkResource.FIELDS_JSON)));
+      assertThrows(IllegalArgumentException.class,
+          () -> resolver.resolve(SdkConstants.SdkResource.CODELISTS));
+    }
+  }
+
+  @Test
+  void testFromClasspath() throws IOException {
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] {archive.toUri().toURL()}, null);
+        SdkResourceResolver resolver = SdkResourceResolver.fromClasspath(classLoader)) {
+      assertTrue(resolver instanceof ArchiveSdkResourceResolver);
+      assertTrue(Files.isSameFile(archive, ((ArchiveSdkResourceResolver) resolver).getArchive()));
+      assertTrue(Files.isRegularFile(resolver.resolve(SdkConstants.SdkResource.FIELDS_JSON)));
+    }
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[0], null)) {
+      assertThrows(IOException.class, () -> SdkResourceResolver.fromClasspath(classLoader));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package eu.europa.ted.eforms.sdk.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SdkVersionRangeCacheTest {
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  @TempDir
+  Path rootDir;
+
+  private SdkVersionRangeCache cacheAt(Instant instant) {
+    return new SdkVersionRangeCache(rootDir, Clock.fixed(instant, ZoneOffset.UTC));
+  }
+
+  @Test
+  void testPutAndGet() {
+    cacheAt(NOW).put("[1.0.*]", List.of("1.0.0", "1.0.1"));
+    cacheAt(NOW).put("[1.1.*]", List.of("1.1.0"));
+
+    assertTrue(Files.isRegularFile(rootDir.resolve(SdkVersionRangeCache.CACHE_FILE_NAME)));
+
+    // Read back by a new instance, as another process would
+    SdkVersionRangeCache cache = cacheAt(NOW.plusSeconds(60));
+    assertEquals(Optional.of(List.of("1.0.0", "1.0.1")), cache.get("[1.0.*]", Duration.ofHours(1)));
+    assertEquals(Optional.of(List.of("1.1.0")), cache.get("[1.1.*]", Duration.ofHours(1)));
+    assertEquals(Optional.empty(), cache.get("[2.0.*]", Duration.ofHours(1)));
+  }
+
+  @Test
+  void testExpiry() {
+    cacheAt(NOW).put("[1.0.*]", List.of("1.0.0"));
+
+    SdkVersionRangeCache later = cacheAt(NOW.plus(Duration.ofHours(2)));
+    assertEquals(Optional.empty(), later.get("[1.0.*]", Duration.ofHours(1)));
+
+    // Without a TTL (offline mode) the entry is still used
+    assertEquals(Optional.of(List.of("1.0.0")), later.get("[1.0.*]", null));
+  }
+
+  @Test
+  void testGetTtl() {
+    // Disabled unless configured, so that new releases are found at once
+    assertEquals(Duration.ZERO, SdkVersionRangeCache.getTtl());
+
+    System.setProperty(SdkVersionRangeCache.TTL_PROPERTY, "PT12H");
+    try {
+      assertEquals(Duration.ofHours(12), SdkVersionRangeCache.getTtl());
+      System.setProperty(SdkVersionRangeCache.TTL_PROPERTY, "12 hours");
+      assertEquals(Duration.ZERO, SdkVersionRangeCache.getTtl());
+    } finally {
+      System.clearProperty(SdkVersionRangeCache.TTL_PROPERTY);
+    }
+  }
+
+  @Test
+  void testUnreadableFile() throws IOException {
+    Files.writeString(rootDir.resolve(SdkVersionRangeCache.CACHE_FILE_NAME), "[1.0.*]=garbage");
+    assertEquals(Optional.empty(), cacheAt(NOW).get("[1.0.*]", Duration.ofHours(1)));
+
+    cacheAt(NOW).put("[1.0.*]", List.of("1.0.0"));
+    assertEquals(Optional.of(List.of("1.0.0")), cacheAt(NOW).get("[1.0.*]", Duration.ofHours(1)));
+  }
+}
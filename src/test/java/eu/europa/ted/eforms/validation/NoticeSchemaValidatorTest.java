@@ -0,0 +1,99 @@
+package eu.europa.ted.eforms.validation;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_ROOT_DIR;
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+import eu.europa.ted.eforms.NoticeDocument;
+
+class NoticeSchemaValidatorTest {
+  private static final String NAMESPACES =
+      " xmlns:cac=\"urn:oasis:names:specification:ubl:schema:xsd:CommonAggregateComponents-2\""
+          + " xmlns:cbc=\"urn:oasis:names:specification:ubl:schema:xsd:CommonBasicComponents-2\"";
+
+  static String contractNotice(String languageCode) {
+    return "<ContractNotice"
+        + " xmlns=\"urn:oasis:names:specification:ubl:schema:xsd:ContractNotice-2\"" + NAMESPACES
+        + ">\n"
+        + "  <cbc:CustomizationID>eforms-sdk-1.10</cbc:CustomizationID>\n"
+        + "  <cbc:ID>notice-1</cbc:ID>\n"
+        + "  <cbc:SubTypeCode>16</cbc:SubTypeCode>\n"
+        + "  <cbc:NoticeLanguageCode>" + languageCode + "</cbc:NoticeLanguageCode>\n"
+        + "  <cac:ProcurementProjectLot>\n"
+        + "    <cbc:ID schemeName=\"Lot\">LOT-0001</cbc:ID>\n"
+        + "    <cac:ProcurementProject><cbc:Name>Lot title</cbc:Name></cac:ProcurementProject>\n"
+        + "  </cac:ProcurementProjectLot>\n"
+        + "</ContractNotice>\n";
+  }
+
+  @AfterAll
+  static void clearInstances() {
+    NoticeSchemaValidator.clearInstances();
+  }
+
+  @Test
+  void testValidNotice() throws ParserConfigurationException, SAXException, IOException {
+    NoticeSchemaValidator validator = NoticeSchemaValidator.getInstance(SDK_VERSION, SDK_ROOT_DIR);
+
+    assertEquals(List.of(), validator.validate(new NoticeDocument(contractNotice("ENG"))));
+    assertEquals(List.of(), validator.validate(new ByteArrayInputStream(
+        contractNotice("FRA").getBytes(StandardCharsets.UTF_8))));
+
+    String priorInformationNotice = "<PriorInformationNotice"
+        + " xmlns=\"urn:oasis:names:specification:ubl:schema:xsd:PriorInformationNotice-2\""
+        + NAMESPACES + "><cbc:CustomizationID>eforms-sdk-1.10</cbc:CustomizationID>"
+        + "<cbc:ID>notice-2</cbc:ID><cbc:NoticeLanguageCode>ENG</cbc:NoticeLanguageCode>"
+        + "</PriorInformationNotice>";
+    assertEquals(List.of(), validator.validate(new ByteArrayInputStream(
+        priorInformationNotice.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  void testInvalidNotice() throws ParserConfigurationException, SAXException, IOException {
+    NoticeSchemaValidator validator = NoticeSchemaValidator.getInstance(SDK_VERSION, SDK_ROOT_DIR);
+
+    List<ValidationMessage> messages =
+        validator.validate(new NoticeDocument(contractNotice("english")));
+    assertFalse(messages.isEmpty());
+    assertTrue(messages.stream().allMatch(ValidationMessage::isError));
+    assertEquals(5, messages.get(0).getLineNumber());
+
+    List<ValidationMessage> notWellFormed = validator.validate(
+        new ByteArrayInputStream("<ContractNotice>".getBytes(StandardCharsets.UTF_8)));
+    assertEquals(ValidationMessage.Severity.FATAL,
+        notWellFormed.get(notWellFormed.size() - 1).getSeverity());
+  }
+
+  @Test
+  void testSharedInstance() {
+    assertSame(NoticeSchemaValidator.getInstance(SDK_VERSION, SDK_ROOT_DIR),
+        NoticeSchemaValidator.getInstance(SDK_VERSION, SDK_ROOT_DIR.toAbsolutePath()));
+  }
+
+  @Test
+  void testParallelValidation() throws ParserConfigurationException, SAXException, IOException {
+    NoticeSchemaValidator validator = NoticeSchemaValidator.getInstance(SDK_VERSION, SDK_ROOT_DIR);
+
+    List<NoticeDocument> notices = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      notices.add(new NoticeDocument(contractNotice(i % 2 == 0 ? "ENG" : "english")));
+    }
+
+    List<List<ValidationMessage>> results = validator.validate(notices);
+    assertEquals(notices.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i % 2 == 0, results.get(i).isEmpty(), "Notice " + i);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package eu.europa.ted.eforms.validation;
+
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_ROOT_DIR;
+import static eu.europa.ted.eforms.sdk.TestSdk.SDK_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.ParserConfigurationException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+import eu.europa.ted.eforms.NoticeDocument;
+import eu.europa.ted.eforms.sdk.SdkConstants;
+
+class NoticeSchematronValidatorTest {
+  private static NoticeSchematronValidator getValidator() {
+    return NoticeSchematronValidator.getInstance(SDK_VERSION,
+        SdkConstants.SdkResource.SCHEMATRONS_STATIC, SDK_ROOT_DIR);
+  }
+
+  @AfterAll
+  static void clearCache() {
+    NoticeSchematronValidator.clearCache();
+  }
+
+  @Test
+  void testValidNotice() throws ParserConfigurationException, SAXException, IOException {
+    NoticeSchematronValidator validator = getValidator();
+
+    assertEquals(1, validator.getStylesheets().size());
+    assertSame(validator, getValidator());
+    assertEquals(List.of(), validator.validate(
+        new NoticeDocument(NoticeSchemaValidatorTest.contractNotice("ENG"))));
+  }
+
+  @Test
+  void testInvalidNotice() throws ParserConfigurationException, SAXException, IOException {
+    String xml = NoticeSchemaValidatorTest.contractNotice("english")
+        .replace("  <cbc:SubTypeCode>16</cbc:SubTypeCode>\n", "")
+        .replace("<cac:ProcurementProject><cbc:Name>Lot title</cbc:Name></cac:ProcurementProject>",
+            "");
+
+    List<ValidationMessage> messages = getValidator().validate(new NoticeDocument(xml));
+    assertEquals(3, messages.size());
+
+    assertEquals(ValidationMessage.Severity.ERROR, messages.get(0).getSeverity());
+    assertEquals("BR-BT-00702-0052", messages.get(0).getRuleId());
+    assertEquals("/cn:ContractNotice/cbc:NoticeLanguageCode", messages.get(0).getLocation());
+    assertEquals("rule|text|BR-BT-00702-0052", messages.get(0).getMessage());
+
+    assertEquals(ValidationMessage.Severity.WARNING, messages.get(1).getSeverity());
+    assertEquals("BR-OPP-00070-0052", messages.get(1).getRuleId());
+
+    assertEquals("BR-BT-00021-0094", messages.get(2).getRuleId());
+    assertEquals("/cn:ContractNotice/cac:ProcurementProjectLot[1]", messages.get(2).getLocation());
+    assertEquals("rule|text|BR-BT-00021-0094", messages.get(2).getMessage());
+
+    assertEquals(messages.toString(), getValidator().validate(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).toString());
+  }
+
+  @Test
+  void testParallelValidation() throws ParserConfigurationException, SAXException, IOException {
+    NoticeSchematronValidator validator = getValidator();
+
+    List<NoticeDocument> notices = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      notices.add(
+          new NoticeDocument(NoticeSchemaValidatorTest.contractNotice(i % 2 == 0 ? "ENG" : "EN")));
+    }
+
+    List<List<ValidationMessage>> results = validator.validate(notices);
+    assertEquals(notices.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i % 2 == 0 ? 0 : 1, results.get(i).size(), "Notice " + i);
+    }
+  }
+
+  @Test
+  void testNoStylesheet() {
+    assertThrows(IllegalArgumentException.class,
+        () -> NoticeSchematronValidator.getInstance(SDK_VERSION,
+            SdkConstants.SdkResource.SCHEMAS_COMMON, SDK_ROOT_DIR));
+  }
+}
@@ -0,0 +1,90 @@
+package eu.europa.ted.maven.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.metadata.DefaultMetadata;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.transfer.MetadataNotFoundException;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import eu.europa.ted.eforms.metrics.MetricNames;
+import eu.europa.ted.eforms.metrics.Metrics;
+import eu.europa.ted.eforms.metrics.MetricsRecorder;
+
+class MetricsTransferListenerTest {
+  private static final String JAR = "eu/europa/ted/eforms/eforms-sdk/1.10.0/eforms-sdk-1.10.0.jar";
+
+  private static TransferEvent event(TransferEvent.EventType type, String resourceName,
+      long transferredBytes, Exception error) {
+    TransferResource resource =
+        new TransferResource("central", "https://repo.maven.apache.org/maven2/", resourceName,
+            null, null);
+
+    return new TransferEvent.Builder(new DefaultRepositorySystemSession(), resource)
+        .setType(type)
+        .setTransferredBytes(transferredBytes)
+        .setException(error)
+        .build();
+  }
+
+  @AfterEach
+  void resetRecorder() {
+    Metrics.setRecorder(null);
+  }
+
+  @Test
+  void testStatistics() throws TransferCancelledException {
+    List<String> published = new ArrayList<>();
+    Metrics.setRecorder(new MetricsRecorder() {
+      @Override
+      public synchronized void count(String name, long amount, String... tags) {
+        published.add(name + ":" + amount);
+      }
+
+      @Override
+      public synchronized void recordTime(String name, long nanos, String... tags) {
+        published.add(name + Arrays.toString(tags));
+      }
+
+      @Override
+      public void gauge(String name, double value, String... tags) {
+        // Not used
+      }
+    });
+    MetricsTransferListener listener = new MetricsTransferListener();
+
+    listener.transferProgressed(event(TransferEvent.EventType.PROGRESSED, JAR, 1024, null));
+    listener.transferSucceeded(event(TransferEvent.EventType.SUCCEEDED, JAR, 4096, null));
+    listener.transferFailed(event(TransferEvent.EventType.FAILED, JAR, 0,
+        new IllegalStateException("Connection reset")));
+
+    Metadata metadata = new DefaultMetadata("eu.europa.ted.eforms", "eforms-sdk",
+        "maven-metadata.xml", Metadata.Nature.RELEASE);
+    listener.transferFailed(event(TransferEvent.EventType.FAILED, "maven-metadata.xml", 0,
+        new MetadataNotFoundException(metadata, (RemoteRepository) null)));
+
+    TransferStatistics jar = listener.getStatistics(JAR).orElseThrow();
+    assertEquals(1, jar.getTransferCount());
+    assertEquals(1, jar.getFailureCount());
+    assertEquals(4096, jar.getBytes());
+    assertFalse(jar.getDuration().isNegative());
+    assertTrue(jar.getThroughput() >= 0);
+
+    assertFalse(listener.getStatistics("maven-metadata.xml").isPresent());
+    assertEquals(1, listener.getStatistics().size());
+    assertEquals(4096, listener.getTotal().getBytes());
+
+    assertEquals(List.of(MetricNames.MAVEN_TRANSFER + "[status, succeeded]",
+        MetricNames.MAVEN_TRANSFER_BYTES + ":4096",
+        MetricNames.MAVEN_TRANSFER + "[status, failed]"), published);
+  }
+}
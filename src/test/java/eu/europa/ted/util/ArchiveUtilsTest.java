@@ -0,0 +1,96 @@
+package eu.europa.ted.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArchiveUtilsTest {
+  @TempDir
+  Path tempDir;
+
+  private Path createArchive(String name, Map<String, String> entries) throws IOException {
+    Path archive = tempDir.resolve(name);
+    try (OutputStream output = Files.newOutputStream(archive);
+        ZipOutputStream zip = new ZipOutputStream(output)) {
+      for (Map.Entry<String, String> entry : entries.entrySet()) {
+        zip.putNextEntry(new ZipEntry(entry.getKey()));
+        if (entry.getValue() != null) {
+          zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        zip.closeEntry();
+      }
+    }
+    return archive;
+  }
+
+  @Test
+  void testUnzipIncremental() throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("META-INF/MANIFEST.MF", "ignored");
+    entries.put("eforms-sdk/", null);
+    entries.put("eforms-sdk/a.txt", "unchanged");
+    entries.put("eforms-sdk/dir/b.txt", "old");
+    entries.put("eforms-sdk/removed.txt", "removed");
+    Path first = createArchive("first.jar", entries);
+
+    Path sdkDir = tempDir.resolve("sdk").resolve("1.0");
+    ArchiveUtils.unzipIncremental(first.toFile(), sdkDir);
+
+    assertEquals("old", Files.readString(sdkDir.resolve("dir/b.txt")));
+    assertFalse(Files.exists(sdkDir.resolve("META-INF")));
+    Object unchangedKey =
+        Files.readAttributes(sdkDir.resolve("a.txt"), BasicFileAttributes.class).fileKey();
+
+    entries.remove("eforms-sdk/removed.txt");
+    entries.put("eforms-sdk/dir/b.txt", "new");
+    entries.put("eforms-sdk/dir/c.txt", "added");
+    Path second = createArchive("second.jar", entries);
+
+    ArchiveUtils.unzipIncremental(second.toFile(), sdkDir);
+
+    assertEquals("unchanged", Files.readString(sdkDir.resolve("a.txt")));
+    assertEquals("new", Files.readString(sdkDir.resolve("dir/b.txt")));
+    assertEquals("added", Files.readString(sdkDir.resolve("dir/c.txt")));
+    assertFalse(Files.exists(sdkDir.resolve("removed.txt")));
+
+    if (unchangedKey != null) {
+      // The unchanged file was linked rather than rewritten
+      assertEquals(unchangedKey,
+          Files.readAttributes(sdkDir.resolve("a.txt"), BasicFileAttributes.class).fileKey());
+    }
+
+    // No temporary directories are left behind
+    try (Stream<Path> siblings = Files.list(sdkDir.getParent())) {
+      assertEquals(1, siblings.count());
+    }
+  }
+
+  @Test
+  void testUnzipIncrementalRejectsEntriesOutsideTarget() throws IOException {
+    Path sdkDir = tempDir.resolve("sdk").resolve("1.0");
+    Files.createDirectories(sdkDir);
+    Files.writeString(sdkDir.resolve("a.txt"), "kept");
+
+    Map<String, String> entries = new LinkedHashMap<>();
+    entries.put("eforms-sdk/../../evil.txt", "evil");
+    Path archive = createArchive("evil.jar", entries);
+
+    assertThrows(IOException.class, () -> ArchiveUtils.unzipIncremental(archive.toFile(), sdkDir));
+    assertEquals("kept", Files.readString(sdkDir.resolve("a.txt")));
+    assertFalse(Files.exists(tempDir.resolve("evil.txt")));
+  }
+}
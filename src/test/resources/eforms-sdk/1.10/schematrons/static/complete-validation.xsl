@@ -0,0 +1,54 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Hand-written stand-in for a Schematron schema compiled to XSLT, for tests. It checks a few rules
+  of a contract notice and reports the results in SVRL, like the compiled SDK schematrons do.
+-->
+<xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+    xmlns:svrl="http://purl.oclc.org/dsdl/svrl"
+    xmlns:cac="urn:oasis:names:specification:ubl:schema:xsd:CommonAggregateComponents-2"
+    xmlns:cbc="urn:oasis:names:specification:ubl:schema:xsd:CommonBasicComponents-2"
+    xmlns:cn="urn:oasis:names:specification:ubl:schema:xsd:ContractNotice-2">
+  <xsl:output method="xml" indent="yes"/>
+
+  <xsl:template match="/">
+    <svrl:schematron-output title="eForms schematron rules" schemaVersion="">
+      <svrl:active-pattern id="EFORMS-validation-stage-1a"/>
+      <xsl:apply-templates select="/*" mode="stage-1a"/>
+      <svrl:active-pattern id="EFORMS-validation-stage-2a"/>
+      <xsl:apply-templates select="/*/cac:ProcurementProjectLot" mode="stage-2a"/>
+    </svrl:schematron-output>
+  </xsl:template>
+
+  <xsl:template match="/*" mode="stage-1a">
+    <svrl:fired-rule context="/*"/>
+    <xsl:if test="not(string-length(normalize-space(cbc:NoticeLanguageCode)) = 3)">
+      <svrl:failed-assert test="string-length(normalize-space(cbc:NoticeLanguageCode)) = 3"
+          id="BR-BT-00702-0052" role="ERROR" location="/cn:ContractNotice/cbc:NoticeLanguageCode">
+        <svrl:text>rule|text|BR-BT-00702-0052</svrl:text>
+      </svrl:failed-assert>
+    </xsl:if>
+    <xsl:if test="not(cbc:SubTypeCode)">
+      <svrl:successful-report test="not(cbc:SubTypeCode)" id="BR-OPP-00070-0052" role="WARN"
+          location="/cn:ContractNotice">
+        <svrl:text>rule|text|BR-OPP-00070-0052</svrl:text>
+      </svrl:successful-report>
+    </xsl:if>
+  </xsl:template>
+
+  <xsl:template match="cac:ProcurementProjectLot" mode="stage-2a">
+    <svrl:fired-rule context="/*/cac:ProcurementProjectLot"/>
+    <xsl:if test="not(cac:ProcurementProject/cbc:Name)">
+      <svrl:failed-assert test="cac:ProcurementProject/cbc:Name" id="BR-BT-00021-0094"
+          role="ERROR">
+        <xsl:attribute name="location">
+          <xsl:text>/cn:ContractNotice/cac:ProcurementProjectLot[</xsl:text>
+          <xsl:value-of select="count(preceding-sibling::cac:ProcurementProjectLot) + 1"/>
+          <xsl:text>]</xsl:text>
+        </xsl:attribute>
+        <svrl:text>
+          rule|text|BR-BT-00021-0094
+        </svrl:text>
+      </svrl:failed-assert>
+    </xsl:if>
+  </xsl:template>
+</xsl:stylesheet>